@@ -2,6 +2,8 @@ package com.mongenscave.mcstreamlink;
 
 import com.github.Anon8281.universalScheduler.UniversalScheduler;
 import com.github.Anon8281.universalScheduler.scheduling.schedulers.TaskScheduler;
+import com.mongenscave.mcstreamlink.clients.HttpTransport;
+import com.mongenscave.mcstreamlink.clients.PlatformRegistry;
 import com.mongenscave.mcstreamlink.clients.TwitchApiClient;
 import com.mongenscave.mcstreamlink.clients.YoutubeApiClient;
 import com.mongenscave.mcstreamlink.config.Config;
@@ -9,8 +11,11 @@ import com.mongenscave.mcstreamlink.hooks.plugins.PlaceholderAPI;
 import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
 import com.mongenscave.mcstreamlink.listener.PlayerListener;
 import com.mongenscave.mcstreamlink.managers.BossBarManager;
+import com.mongenscave.mcstreamlink.managers.ChannelHealthManager;
+import com.mongenscave.mcstreamlink.managers.GoLiveHistoryManager;
 import com.mongenscave.mcstreamlink.managers.MediaDataManager;
 import com.mongenscave.mcstreamlink.managers.MilestoneManager;
+import com.mongenscave.mcstreamlink.service.FollowerCountService;
 import com.mongenscave.mcstreamlink.service.LiveCheckService;
 import com.mongenscave.mcstreamlink.utils.LoggerUtils;
 import com.mongenscave.mcstreamlink.utils.NotificationUtils;
@@ -25,15 +30,25 @@ import org.jetbrains.annotations.NotNull;
 import revxrsal.zapper.ZapperJavaPlugin;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public final class McStreamLink extends ZapperJavaPlugin {
     @Getter private static McStreamLink instance;
     @Getter private TaskScheduler scheduler;
     @Getter private Config language;
     @Getter private MediaDataManager mediaDataManager;
+    @Getter private ChannelHealthManager channelHealthManager;
+    @Getter private GoLiveHistoryManager goLiveHistoryManager;
+    @Getter private HttpTransport httpTransport;
     @Getter private YoutubeApiClient youtubeClient;
     @Getter private TwitchApiClient twitchClient;
+    @Getter private PlatformRegistry platforms;
     @Getter private LiveCheckService liveCheckService;
+    @Getter private FollowerCountService followerCountService;
     @Getter private MilestoneManager milestoneManager;
     @Getter private BossBarManager bossBarManager;
     private Config config;
@@ -50,15 +65,25 @@ public final class McStreamLink extends ZapperJavaPlugin {
         initializeComponents();
 
         mediaDataManager = new MediaDataManager(this);
+        channelHealthManager = new ChannelHealthManager(this);
+        goLiveHistoryManager = new GoLiveHistoryManager(this);
         milestoneManager = new MilestoneManager(this);
         bossBarManager = new BossBarManager(this);
 
-        youtubeClient = new YoutubeApiClient(this, ConfigKeys.API_YOUTUBE_API_KEY.getString());
-        twitchClient = new TwitchApiClient(this, ConfigKeys.API_TWITCH_CLIENT_ID.getString(), ConfigKeys.API_TWITCH_CLIENT_SECRET.getString());
+        httpTransport = new HttpTransport();
+        youtubeClient = new YoutubeApiClient(this, httpTransport, loadYoutubeApiKeys());
+        twitchClient = new TwitchApiClient(this, httpTransport, loadTwitchApps());
+
+        platforms = new PlatformRegistry();
+        platforms.register(youtubeClient);
+        platforms.register(twitchClient);
 
         NotificationUtils notificationService = new NotificationUtils(this);
 
-        liveCheckService = new LiveCheckService(this, mediaDataManager, youtubeClient, twitchClient, notificationService);
+        followerCountService = new FollowerCountService(this, platforms);
+        followerCountService.start();
+
+        liveCheckService = new LiveCheckService(this, mediaDataManager, channelHealthManager, goLiveHistoryManager, platforms, notificationService, followerCountService);
         liveCheckService.start();
 
         PlaceholderAPI.registerHook(mediaDataManager);
@@ -72,6 +97,15 @@ public final class McStreamLink extends ZapperJavaPlugin {
     public void onDisable() {
         if (bossBarManager != null) bossBarManager.removeAll();
         if (liveCheckService != null) liveCheckService.stop();
+        if (followerCountService != null) followerCountService.stop();
+        if (channelHealthManager != null) channelHealthManager.save();
+        if (goLiveHistoryManager != null) goLiveHistoryManager.save();
+        if (youtubeClient != null) {
+            youtubeClient.getQuotaTracker().save();
+            youtubeClient.getBroadcastRegistry().save();
+        }
+        if (twitchClient != null) twitchClient.shutdown();
+        if (httpTransport != null) httpTransport.shutdown();
         if (scheduler != null) scheduler.cancelTasks();
     }
 
@@ -96,6 +130,42 @@ public final class McStreamLink extends ZapperJavaPlugin {
         language = loadConfig("messages.yml", generalSettings, loaderSettings, updaterSettings);
     }
 
+    @NotNull
+    private List<String> loadYoutubeApiKeys() {
+        Set<String> apiKeys = new LinkedHashSet<>();
+        apiKeys.add(ConfigKeys.API_YOUTUBE_API_KEY.getString().trim());
+
+        List<String> extraKeys = ConfigKeys.API_YOUTUBE_API_KEYS.getList();
+        if (extraKeys != null) extraKeys.forEach(apiKey -> apiKeys.add(String.valueOf(apiKey).trim()));
+
+        apiKeys.remove("");
+        return List.copyOf(apiKeys);
+    }
+
+    @NotNull
+    private Map<String, String> loadTwitchApps() {
+        Map<String, String> apps = new LinkedHashMap<>();
+
+        String clientId = ConfigKeys.API_TWITCH_CLIENT_ID.getString().trim();
+        if (!clientId.isEmpty()) apps.put(clientId, ConfigKeys.API_TWITCH_CLIENT_SECRET.getString().trim());
+
+        List<String> extraApps = ConfigKeys.API_TWITCH_APPS.getList();
+        if (extraApps == null) return apps;
+
+        for (String app : extraApps) {
+            String[] parts = String.valueOf(app).split(":", 2);
+
+            if (parts.length != 2 || parts[0].isBlank()) {
+                LoggerUtils.warn("Ignoring malformed Twitch app entry, expected client-id:client-secret");
+                continue;
+            }
+
+            apps.putIfAbsent(parts[0].trim(), parts[1].trim());
+        }
+
+        return apps;
+    }
+
     @NotNull
     @Contract("_, _, _, _ -> new")
     private Config loadConfig(@NotNull String fileName, @NotNull GeneralSettings generalSettings, @NotNull LoaderSettings loaderSettings, @NotNull UpdaterSettings updaterSettings) {
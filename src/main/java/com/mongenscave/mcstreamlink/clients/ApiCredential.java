@@ -0,0 +1,51 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.identifiers.CredentialState;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+public abstract class ApiCredential {
+    private static final long REVOKED_COOLDOWN_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    private static final int VISIBLE_SUFFIX = 4;
+
+    private final String platform;
+    @Getter private final String label;
+    @Getter private final RateLimiter rateLimiter;
+    private volatile long revokedUntil;
+
+    protected ApiCredential(@NotNull String platform, @NotNull String secret, int requestsPerMinute) {
+        this.platform = platform;
+        this.label = "..." + secret.substring(Math.max(0, secret.length() - VISIBLE_SUFFIX));
+        this.rateLimiter = new RateLimiter(platform + " (" + label + ")", requestsPerMinute);
+    }
+
+    public abstract double getHeadroom();
+
+    public boolean isExhausted() {
+        return false;
+    }
+
+    @NotNull
+    public CredentialState getState() {
+        if (System.currentTimeMillis() < revokedUntil) return CredentialState.REVOKED;
+        if (isExhausted()) return CredentialState.EXHAUSTED;
+        if (rateLimiter.isThrottled() || rateLimiter.getAvailable() < 1.0) return CredentialState.THROTTLED;
+        return CredentialState.HEALTHY;
+    }
+
+    public boolean isUsable() {
+        CredentialState state = getState();
+        return state == CredentialState.HEALTHY || state == CredentialState.THROTTLED;
+    }
+
+    public void markRevoked() {
+        long now = System.currentTimeMillis();
+        boolean wasRevoked = now < revokedUntil;
+
+        revokedUntil = now + REVOKED_COOLDOWN_MILLIS;
+        if (!wasRevoked) LoggerUtils.warn("{} credential {} was rejected, retrying it in {} minutes", platform, label, TimeUnit.MILLISECONDS.toMinutes(REVOKED_COOLDOWN_MILLIS));
+    }
+}
@@ -0,0 +1,69 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.identifiers.CircuitState;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+public class CircuitBreaker {
+    private final String name;
+
+    @Getter private CircuitState state;
+    private int failures;
+    private long openUntil;
+    private boolean probing;
+
+    public CircuitBreaker(@NotNull String name) {
+        this.name = name;
+        this.state = CircuitState.CLOSED;
+    }
+
+    public synchronized boolean isOpen() {
+        return state == CircuitState.OPEN && System.currentTimeMillis() < openUntil;
+    }
+
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (System.currentTimeMillis() < openUntil) return false;
+
+                state = CircuitState.HALF_OPEN;
+                probing = true;
+                return true;
+            }
+            default -> {
+                if (probing) return false;
+
+                probing = true;
+                return true;
+            }
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        if (state != CircuitState.CLOSED) LoggerUtils.info("{} API recovered, circuit closed", name);
+
+        state = CircuitState.CLOSED;
+        failures = 0;
+        probing = false;
+    }
+
+    public synchronized void recordFailure() {
+        failures++;
+        probing = false;
+
+        int failureThreshold = Math.max(1, ConfigKeys.HTTP_CIRCUIT_BREAKER_FAILURES.getInt());
+        long openSeconds = Math.max(1L, ConfigKeys.HTTP_CIRCUIT_BREAKER_OPEN_DURATION.getInt());
+
+        if (state == CircuitState.HALF_OPEN || (state == CircuitState.CLOSED && failures >= failureThreshold)) {
+            if (state == CircuitState.CLOSED) LoggerUtils.warn("{} API failed {} times in a row, pausing checks for {}s", name, failures, openSeconds);
+
+            state = CircuitState.OPEN;
+            openUntil = System.currentTimeMillis() + openSeconds * 1000L;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.identifiers.RequestLane;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+public class ConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final int BASELINE_SAMPLES = 500;
+
+    private int minLimit;
+    private int maxLimit;
+    private final Map<RequestLane, Queue<CompletableFuture<Void>>> waiting;
+    private final Map<RequestLane, Double> passes;
+    private final Map<RequestLane, Integer> peaks;
+    private final Map<RequestLane, Long> dispatched;
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private double virtualTime;
+    private long minRtt;
+    private int samples;
+
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+        this.waiting = new EnumMap<>(RequestLane.class);
+        this.passes = new EnumMap<>(RequestLane.class);
+        this.peaks = new EnumMap<>(RequestLane.class);
+        this.dispatched = new EnumMap<>(RequestLane.class);
+        this.minRtt = Long.MAX_VALUE;
+
+        for (RequestLane lane : RequestLane.values()) {
+            waiting.put(lane, new ArrayDeque<>());
+            passes.put(lane, 0.0);
+            peaks.put(lane, 0);
+            dispatched.put(lane, 0L);
+        }
+    }
+
+    @NotNull
+    public synchronized CompletableFuture<Void> acquire(@NotNull RequestLane lane) {
+        if (inFlight < (int) limit && queued == 0) {
+            inFlight++;
+            dispatched.merge(lane, 1L, Long::sum);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Queue<CompletableFuture<Void>> queue = waiting.get(lane);
+
+        // a lane that sat idle re-enters at the current virtual time instead of cashing in its unused share
+        if (queue.isEmpty()) passes.put(lane, Math.max(passes.get(lane), virtualTime));
+
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        queue.add(permit);
+        queued++;
+        peaks.merge(lane, queue.size(), Math::max);
+
+        return permit;
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+
+        synchronized (this) {
+            inFlight--;
+            adjust(rttNanos, dropped);
+
+            while (inFlight < (int) limit && queued > 0) {
+                inFlight++;
+                granted.add(next());
+            }
+        }
+
+        granted.forEach(permit -> permit.complete(null));
+    }
+
+    public void setBounds(int minLimit, int maxLimit) {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+
+        synchronized (this) {
+            this.minLimit = Math.max(1, minLimit);
+            this.maxLimit = Math.max(this.minLimit, maxLimit);
+            this.limit = Math.clamp(limit, this.minLimit, this.maxLimit);
+
+            // a raised floor frees slots right away instead of waiting for the next release
+            while (inFlight < (int) limit && queued > 0) {
+                inFlight++;
+                granted.add(next());
+            }
+        }
+
+        granted.forEach(permit -> permit.complete(null));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued(@NotNull RequestLane lane) {
+        return waiting.get(lane).size();
+    }
+
+    public synchronized int getPeakQueued(@NotNull RequestLane lane) {
+        return peaks.get(lane);
+    }
+
+    public synchronized long getDispatched(@NotNull RequestLane lane) {
+        return dispatched.get(lane);
+    }
+
+    @NotNull
+    private CompletableFuture<Void> next() {
+        RequestLane selected = null;
+
+        for (RequestLane lane : RequestLane.values()) {
+            if (waiting.get(lane).isEmpty()) continue;
+            if (selected == null || passes.get(lane) < passes.get(selected)) selected = lane;
+        }
+
+        double pass = passes.get(selected);
+        virtualTime = pass;
+        passes.put(selected, pass + 1.0 / selected.getWeight());
+        dispatched.merge(selected, 1L, Long::sum);
+        queued--;
+
+        return waiting.get(selected).poll();
+    }
+
+    private void adjust(long rttNanos, boolean dropped) {
+        if (++samples >= BASELINE_SAMPLES) {
+            samples = 0;
+            minRtt = Long.MAX_VALUE;
+        }
+
+        if (dropped) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            return;
+        }
+
+        minRtt = Math.min(minRtt, rttNanos);
+
+        if (rttNanos > minRtt * LATENCY_TOLERANCE) limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        else if (inFlight * 2 >= limit) limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+}
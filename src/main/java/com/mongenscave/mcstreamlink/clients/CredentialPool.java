@@ -0,0 +1,52 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.identifiers.CredentialState;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+public class CredentialPool<C extends ApiCredential> {
+    @Getter private final List<C> credentials;
+
+    public CredentialPool(@NotNull List<C> credentials) {
+        this.credentials = List.copyOf(credentials);
+    }
+
+    @Nullable
+    public C select() {
+        return select(null);
+    }
+
+    @Nullable
+    public C select(@Nullable C excluded) {
+        C best = null;
+        CredentialState bestState = null;
+        double bestHeadroom = 0.0;
+
+        for (C credential : credentials) {
+            if (credential == excluded) continue;
+
+            CredentialState state = credential.getState();
+            if (state != CredentialState.HEALTHY && state != CredentialState.THROTTLED) continue;
+
+            double headroom = credential.getHeadroom();
+            boolean better = best == null
+                    || state.ordinal() < bestState.ordinal()
+                    || (state == bestState && headroom > bestHeadroom);
+
+            if (better) {
+                best = credential;
+                bestState = state;
+                bestHeadroom = headroom;
+            }
+        }
+
+        return best;
+    }
+
+    public boolean hasUsable() {
+        return credentials.stream().anyMatch(ApiCredential::isUsable);
+    }
+}
@@ -0,0 +1,34 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.data.CachedResponse;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EtagCache<T> {
+    private final Map<String, CachedResponse<T>> entries;
+
+    public EtagCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse<T>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Nullable
+    public synchronized CachedResponse<T> get(@NotNull String url) {
+        return entries.get(url);
+    }
+
+    public synchronized void put(@NotNull String url, @NotNull String etag, @NotNull T value) {
+        entries.put(url, new CachedResponse<>(etag, value));
+    }
+
+    public synchronized void remove(@NotNull String url) {
+        entries.remove(url);
+    }
+}
@@ -0,0 +1,147 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.google.gson.stream.JsonReader;
+import com.mongenscave.mcstreamlink.data.ApiResponse;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import org.jetbrains.annotations.NotNull;
+
+import javax.net.ssl.SSLSession;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+public class HttpTransport {
+    private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+    private static final String KEEP_ALIVE_H2_PROPERTY = "jdk.httpclient.keepalive.timeout.h2";
+
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+    private final String userAgent;
+    private final Map<SSLSession, Boolean> sessions;
+    private final AtomicLong requests;
+    private final AtomicLong newConnections;
+    private final AtomicLong http2Responses;
+
+    public HttpTransport() {
+        String keepAlive = String.valueOf(ConfigKeys.HTTP_KEEP_ALIVE.getInt());
+
+        // read once by the JDK when its connection pool is first loaded, so only fill in what the server owner hasn't set
+        if (System.getProperty(KEEP_ALIVE_PROPERTY) == null) System.setProperty(KEEP_ALIVE_PROPERTY, keepAlive);
+        if (System.getProperty(KEEP_ALIVE_H2_PROPERTY) == null) System.setProperty(KEEP_ALIVE_H2_PROPERTY, keepAlive);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+
+        this.executor = Executors.newFixedThreadPool(Math.max(1, ConfigKeys.HTTP_THREADS.getInt()), runnable -> {
+            Thread thread = new Thread(runnable, "StreamLink-HTTP-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.connectTimeout = Duration.ofSeconds(ConfigKeys.HTTP_CONNECT_TIMEOUT.getInt());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+
+        this.requestTimeout = Duration.ofSeconds(ConfigKeys.HTTP_REQUEST_TIMEOUT.getInt());
+        this.userAgent = ConfigKeys.HTTP_USER_AGENT.getString();
+        this.sessions = Collections.synchronizedMap(new WeakHashMap<>());
+        this.requests = new AtomicLong();
+        this.newConnections = new AtomicLong();
+        this.http2Responses = new AtomicLong();
+    }
+
+    @NotNull
+    public HttpRequest.Builder request(@NotNull String url) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(requestTimeout)
+                .header("User-Agent", userAgent)
+                .header("Accept-Encoding", "gzip");
+    }
+
+    @NotNull
+    public <T> CompletableFuture<ApiResponse<T>> sendAsync(@NotNull HttpRequest request, @NotNull JsonDecoder<T> decoder) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            record(response);
+
+            try (InputStream body = openBody(response)) {
+                if (response.statusCode() / 100 != 2) return ApiResponse.failure(response.statusCode(), response.headers(), new String(body.readAllBytes(), StandardCharsets.UTF_8));
+
+                JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+                return ApiResponse.success(response.statusCode(), response.headers(), decoder.decode(reader));
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+
+    @NotNull
+    public CompletableFuture<WebSocket> openWebSocket(@NotNull String url, @NotNull WebSocket.Listener listener) {
+        return httpClient.newWebSocketBuilder()
+                .connectTimeout(connectTimeout)
+                .header("User-Agent", userAgent)
+                .buildAsync(URI.create(url), listener);
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getNewConnections() {
+        return newConnections.get();
+    }
+
+    public long getReusedConnections() {
+        return Math.max(0L, requests.get() - newConnections.get());
+    }
+
+    public long getHttp2Responses() {
+        return http2Responses.get();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @NotNull
+    private InputStream openBody(@NotNull HttpResponse<byte[]> response) throws IOException {
+        InputStream body = new ByteArrayInputStream(response.body());
+        boolean gzip = response.body().length > 0 && response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+
+        return gzip ? new GZIPInputStream(body) : body;
+    }
+
+    private void record(@NotNull HttpResponse<?> response) {
+        requests.incrementAndGet();
+        if (response.version() == HttpClient.Version.HTTP_2) http2Responses.incrementAndGet();
+
+        response.sslSession().ifPresent(session -> {
+            if (sessions.putIfAbsent(session, Boolean.TRUE) == null) newConnections.incrementAndGet();
+        });
+    }
+}
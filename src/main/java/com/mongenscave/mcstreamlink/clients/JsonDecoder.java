@@ -0,0 +1,11 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.google.gson.stream.JsonReader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface JsonDecoder<T> {
+    T decode(@NotNull JsonReader reader) throws IOException;
+}
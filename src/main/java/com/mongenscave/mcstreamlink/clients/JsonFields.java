@@ -0,0 +1,72 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class JsonFields {
+    private final Set<String> paths;
+    private final Set<String> parents;
+
+    public JsonFields(@NotNull String... paths) {
+        this.paths = Set.of(paths);
+        this.parents = new HashSet<>();
+
+        for (String path : paths) {
+            int index = path.indexOf('.');
+
+            while (index != -1) {
+                parents.add(path.substring(0, index));
+                index = path.indexOf('.', index + 1);
+            }
+        }
+    }
+
+    @NotNull
+    public Map<String, String> read(@NotNull JsonReader reader) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        readObject(reader, "", values);
+
+        return values;
+    }
+
+    public void forEach(@NotNull JsonReader reader, @NotNull String arrayName, @NotNull Consumer<Map<String, String>> consumer) throws IOException {
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            if (!reader.nextName().equals(arrayName) || reader.peek() != JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+                continue;
+            }
+
+            reader.beginArray();
+            while (reader.hasNext()) consumer.accept(read(reader));
+            reader.endArray();
+        }
+
+        reader.endObject();
+    }
+
+    private void readObject(@NotNull JsonReader reader, @NotNull String prefix, @NotNull Map<String, String> values) throws IOException {
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            String path = prefix + reader.nextName();
+            JsonToken token = reader.peek();
+
+            if (token == JsonToken.BEGIN_OBJECT && parents.contains(path)) readObject(reader, path + ".", values);
+            else if (paths.contains(path) && (token == JsonToken.STRING || token == JsonToken.NUMBER)) values.put(path, reader.nextString());
+            else if (paths.contains(path) && token == JsonToken.BOOLEAN) values.put(path, String.valueOf(reader.nextBoolean()));
+            else reader.skipValue();
+        }
+
+        reader.endObject();
+    }
+}
@@ -0,0 +1,101 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.data.ApiResponse;
+import com.mongenscave.mcstreamlink.exception.CircuitOpenException;
+import com.mongenscave.mcstreamlink.identifiers.RequestLane;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class PlatformGateway {
+    private static final long MAX_RETRY_DELAY_MILLIS = 10_000L;
+
+    private final String name;
+    private final HttpTransport transport;
+    @Getter private final CircuitBreaker circuitBreaker;
+    @Getter private final ConcurrencyLimiter concurrencyLimiter;
+
+    public PlatformGateway(@NotNull String name, @NotNull HttpTransport transport) {
+        this.name = name;
+        this.transport = transport;
+        this.circuitBreaker = new CircuitBreaker(name);
+        this.concurrencyLimiter = new ConcurrencyLimiter(ConfigKeys.HTTP_CONCURRENCY_INITIAL.getInt(), ConfigKeys.HTTP_CONCURRENCY_MIN.getInt(), ConfigKeys.HTTP_CONCURRENCY_MAX.getInt());
+    }
+
+    // the learned limit is kept across a reload, only the bounds it moves between change
+    public void reload() {
+        concurrencyLimiter.setBounds(ConfigKeys.HTTP_CONCURRENCY_MIN.getInt(), ConfigKeys.HTTP_CONCURRENCY_MAX.getInt());
+    }
+
+    @NotNull
+    public <T> CompletableFuture<ApiResponse<T>> send(@NotNull HttpRequest request, @NotNull RequestLane lane, @NotNull JsonDecoder<T> decoder, @NotNull RateLimiter rateLimiter) {
+        int maxAttempts = request.method().equals("GET") ? Math.max(1, ConfigKeys.HTTP_RETRY_MAX_ATTEMPTS.getInt()) : 1;
+        return attempt(request, lane, decoder, rateLimiter, 1, maxAttempts);
+    }
+
+    @NotNull
+    private <T> CompletableFuture<ApiResponse<T>> attempt(@NotNull HttpRequest request, @NotNull RequestLane lane, @NotNull JsonDecoder<T> decoder,
+                                                          @NotNull RateLimiter rateLimiter, int attempt, int maxAttempts) {
+        if (!circuitBreaker.tryAcquire()) return CompletableFuture.failedFuture(new CircuitOpenException(name));
+
+        // the lane queue sits in front of the rate limiter so queued background polls never hold tokens ahead of interactive ones
+        return concurrencyLimiter.acquire(lane)
+                .thenCompose(v -> rateLimiter.acquire())
+                .thenCompose(v -> sendLimited(request, decoder))
+                .handle((response, exception) -> {
+                    boolean failed = exception != null ? isTransient(exception) : response.getStatusCode() >= 500;
+
+                    if (!failed) {
+                        circuitBreaker.recordSuccess();
+                        return exception == null ? CompletableFuture.completedFuture(response) : CompletableFuture.<ApiResponse<T>>failedFuture(exception);
+                    }
+
+                    circuitBreaker.recordFailure();
+
+                    if (attempt >= maxAttempts || circuitBreaker.isOpen()) {
+                        return exception == null ? CompletableFuture.completedFuture(response) : CompletableFuture.<ApiResponse<T>>failedFuture(exception);
+                    }
+
+                    return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(getRetryDelay(attempt), TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> attempt(request, lane, decoder, rateLimiter, attempt + 1, maxAttempts));
+                })
+                .thenCompose(future -> future);
+    }
+
+    @NotNull
+    private <T> CompletableFuture<ApiResponse<T>> sendLimited(@NotNull HttpRequest request, @NotNull JsonDecoder<T> decoder) {
+        long start = System.nanoTime();
+        CompletableFuture<ApiResponse<T>> future;
+
+        try {
+            future = transport.sendAsync(request, decoder);
+        } catch (RuntimeException exception) {
+            concurrencyLimiter.release(System.nanoTime() - start, true);
+            return CompletableFuture.failedFuture(exception);
+        }
+
+        return future.whenComplete((response, exception) -> {
+            boolean dropped = exception != null || response.getStatusCode() == 429 || response.getStatusCode() >= 500;
+            concurrencyLimiter.release(System.nanoTime() - start, dropped);
+        });
+    }
+
+    private long getRetryDelay(int attempt) {
+        long baseDelay = Math.max(1L, ConfigKeys.HTTP_RETRY_BASE_DELAY.getInt());
+        long ceiling = Math.min(MAX_RETRY_DELAY_MILLIS, baseDelay << Math.min(attempt - 1, 10));
+
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    private static boolean isTransient(@NotNull Throwable exception) {
+        Throwable cause = exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception;
+        return cause instanceof IOException;
+    }
+}
@@ -0,0 +1,32 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class PlatformRegistry {
+    private final Map<PlatformType, StreamPlatform> platforms;
+
+    public PlatformRegistry() {
+        this.platforms = new EnumMap<>(PlatformType.class);
+    }
+
+    public void register(@NotNull StreamPlatform platform) {
+        platforms.put(platform.getType(), platform);
+    }
+
+    @Nullable
+    public StreamPlatform get(@NotNull PlatformType type) {
+        return platforms.get(type);
+    }
+
+    @NotNull
+    public Collection<StreamPlatform> getAll() {
+        return Collections.unmodifiableCollection(platforms.values());
+    }
+}
@@ -0,0 +1,120 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimiter {
+    private final String name;
+    private final double capacity;
+    private final double nanosPerToken;
+
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+
+    public RateLimiter(@NotNull String name, int requestsPerMinute) {
+        this.name = name;
+        this.capacity = Math.max(1, requestsPerMinute);
+        this.nanosPerToken = TimeUnit.MINUTES.toNanos(1) / capacity;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+        this.blockedUntil = lastRefill;
+    }
+
+    @NotNull
+    public CompletableFuture<Void> acquire() {
+        long delay = reserve();
+        if (delay <= 0) return CompletableFuture.completedFuture(null);
+
+        return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS));
+    }
+
+    public void sync(@NotNull HttpHeaders headers) {
+        long remaining = headers.firstValueAsLong("Ratelimit-Remaining").orElse(-1L);
+        long reset = headers.firstValueAsLong("Ratelimit-Reset").orElse(-1L);
+        if (remaining < 0) return;
+
+        synchronized (this) {
+            refill(System.nanoTime());
+            tokens = Math.min(tokens, remaining);
+        }
+
+        if (remaining == 0 && reset > 0) throttle(untilEpochSecond(reset));
+    }
+
+    public void throttle(@NotNull HttpHeaders headers, @NotNull Duration fallback) {
+        long reset = headers.firstValueAsLong("Ratelimit-Reset").orElse(-1L);
+        long retryAfter = headers.firstValueAsLong("Retry-After").orElse(-1L);
+
+        if (reset > 0) throttle(untilEpochSecond(reset));
+        else if (retryAfter > 0) throttle(Duration.ofSeconds(retryAfter));
+        else throttle(fallback);
+    }
+
+    public void throttle(@NotNull Duration duration) {
+        boolean extended;
+
+        synchronized (this) {
+            long until = System.nanoTime() + Math.max(0L, duration.toNanos());
+            extended = until > blockedUntil;
+
+            blockedUntil = Math.max(blockedUntil, until);
+            tokens = Math.min(tokens, 0);
+        }
+
+        if (extended) LoggerUtils.warn("{} API rate limit reached, pausing requests for {}s", name, Math.max(1L, duration.toSeconds()));
+    }
+
+    public synchronized int acquireAvailable(int permits) {
+        long now = System.nanoTime();
+        refill(now);
+        if (now < blockedUntil) return 0;
+
+        int granted = (int) Math.min(permits, Math.max(0.0, Math.floor(tokens)));
+        tokens -= granted;
+
+        return granted;
+    }
+
+    public synchronized long getWaitNanos(int permits) {
+        long now = System.nanoTime();
+        refill(now);
+
+        long refillWait = (long) (Math.max(0.0, permits - tokens) * nanosPerToken);
+        return Math.max(refillWait, blockedUntil - now);
+    }
+
+    public synchronized double getAvailable() {
+        refill(System.nanoTime());
+        return Math.max(0.0, tokens);
+    }
+
+    public synchronized boolean isThrottled() {
+        return System.nanoTime() < blockedUntil;
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        refill(now);
+
+        tokens -= 1;
+
+        long delay = tokens >= 0 ? 0L : (long) (-tokens * nanosPerToken);
+        return Math.max(delay, blockedUntil - now);
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) / nanosPerToken);
+        lastRefill = now;
+    }
+
+    @NotNull
+    private static Duration untilEpochSecond(long epochSecond) {
+        return Duration.ofMillis(Math.max(0L, epochSecond * 1000L - System.currentTimeMillis()));
+    }
+}
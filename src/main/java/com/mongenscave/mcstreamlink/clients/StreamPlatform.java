@@ -0,0 +1,57 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.data.ChannelRef;
+import com.mongenscave.mcstreamlink.data.ChannelResolution;
+import com.mongenscave.mcstreamlink.data.StreamSnapshot;
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.identifiers.RequestLane;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+public interface StreamPlatform {
+    @NotNull
+    PlatformType getType();
+
+    boolean isEnabled();
+
+    boolean isAvailable();
+
+    int getBatchSize();
+
+    int getBatchCost();
+
+    long getRemainingBudget();
+
+    int getRequestsPerMinute();
+
+    @NotNull
+    PlatformGateway getGateway();
+
+    @NotNull
+    CredentialPool<? extends ApiCredential> getCredentials();
+
+    boolean matchesUrl(@NotNull String url);
+
+    @NotNull
+    CompletableFuture<Map<String, ChannelResolution>> resolveChannelIds(@NotNull Collection<String> channelUrls, @NotNull RequestLane lane);
+
+    @NotNull
+    CompletableFuture<Map<String, StreamSnapshot>> fetchSnapshots(@NotNull Collection<ChannelRef> channels, @NotNull RequestLane lane);
+
+    @NotNull
+    CompletableFuture<Map<String, Integer>> fetchFollowerCounts(@NotNull Collection<String> channelIds, @NotNull RequestLane lane);
+
+    default boolean needsPolling(@NotNull ChannelRef channel) {
+        return true;
+    }
+
+    default void track(@NotNull Collection<ChannelRef> channels) {}
+
+    default void startPush(@NotNull BiConsumer<String, StreamSnapshot> listener) {}
+
+    default void stopPush() {}
+}
@@ -1,235 +1,409 @@
 package com.mongenscave.mcstreamlink.clients;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.data.ApiResponse;
+import com.mongenscave.mcstreamlink.data.ChannelRef;
+import com.mongenscave.mcstreamlink.data.ChannelResolution;
+import com.mongenscave.mcstreamlink.data.StreamSnapshot;
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.identifiers.RequestLane;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
 import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
-public class TwitchApiClient {
+public class TwitchApiClient implements StreamPlatform {
     private static final String API_BASE = "https://api.twitch.tv/helix";
-    private static final String TOKEN_URL = "https://id.twitch.tv/oauth2/token";
     private static final Pattern USERNAME_PATTERN = Pattern.compile("twitch\\.tv/([^/?]+)");
+    private static final int STREAMS_BATCH_SIZE = 100;
+    private static final int USERS_BATCH_SIZE = 100;
+    private static final Duration THROTTLE_FALLBACK = Duration.ofSeconds(10);
+    private static final JsonFields USER_FIELDS = new JsonFields("id", "login");
+    private static final JsonFields STREAM_FIELDS = new JsonFields("user_id", "type", "viewer_count", "started_at", "title");
+    private static final JsonFields FOLLOWER_FIELDS = new JsonFields("total");
+
+    private final HttpTransport transport;
+    private final TwitchUserCache userCache;
+    @Getter private final CredentialPool<TwitchCredential> credentials;
+    @Getter private final PlatformGateway gateway;
+    @Getter private final TwitchEventSubClient eventSub;
+
+    public TwitchApiClient(@NotNull McStreamLink plugin, @NotNull HttpTransport transport, @NotNull Map<String, String> apps) {
+        this.transport = transport;
+        this.userCache = new TwitchUserCache(plugin);
+        this.gateway = new PlatformGateway("Twitch", transport);
+
+        int requestsPerMinute = ConfigKeys.API_TWITCH_REQUESTS_PER_MINUTE.getInt();
+        List<TwitchCredential> pool = new ArrayList<>();
+
+        apps.forEach((clientId, clientSecret) -> pool.add(new TwitchCredential(plugin, transport, clientId, clientSecret, requestsPerMinute)));
+        this.credentials = new CredentialPool<>(pool);
+        this.eventSub = new TwitchEventSubClient(plugin, transport, gateway);
+    }
 
-    private final HttpClient httpClient;
-    private final String clientId;
-    private final String clientSecret;
-    private final McStreamLink plugin;
+    public void shutdown() {
+        eventSub.stop();
+        userCache.save();
+        credentials.getCredentials().forEach(credential -> credential.getTokenProvider().shutdown());
+    }
 
-    private String accessToken;
-    private Instant tokenExpiry;
+    @NotNull
+    @Override
+    public PlatformType getType() {
+        return PlatformType.TWITCH;
+    }
 
-    public TwitchApiClient(@NotNull McStreamLink plugin, @NotNull String clientId, @NotNull String clientSecret) {
-        this.plugin = plugin;
-        this.clientId = clientId;
-        this.clientSecret = clientSecret;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
+    @Override
+    public boolean isEnabled() {
+        return ConfigKeys.API_TWITCH_ENABLED.getBoolean();
     }
 
-    private CompletableFuture<Boolean> ensureAccessToken() {
-        if (accessToken != null && tokenExpiry != null && Instant.now().isBefore(tokenExpiry)) return CompletableFuture.completedFuture(true);
+    @Override
+    public boolean isAvailable() {
+        return !gateway.getCircuitBreaker().isOpen() && credentials.hasUsable();
+    }
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String url = String.format("%s?client_id=%s&client_secret=%s&grant_type=client_credentials",
-                        TOKEN_URL, clientId, clientSecret);
+    @Override
+    public int getBatchSize() {
+        return STREAMS_BATCH_SIZE;
+    }
 
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .POST(HttpRequest.BodyPublishers.noBody())
-                        .build();
+    @Override
+    public int getBatchCost() {
+        return 1;
+    }
 
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    @Override
+    public long getRemainingBudget() {
+        return Long.MAX_VALUE;
+    }
 
-                if (response.statusCode() != 200) {
-                    LoggerUtils.error("TwitchApiClient failed to send Twitch API response");
-                    return false;
-                }
+    @Override
+    public int getRequestsPerMinute() {
+        return ConfigKeys.API_TWITCH_REQUESTS_PER_MINUTE.getInt() * Math.max(1, credentials.getCredentials().size());
+    }
 
-                JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
-                accessToken = jsonResponse.get("access_token").getAsString();
-                int expiresIn = jsonResponse.get("expires_in").getAsInt();
-                tokenExpiry = Instant.now().plusSeconds(expiresIn - 300);
+    @Override
+    public boolean matchesUrl(@NotNull String url) {
+        return url.contains("twitch.tv");
+    }
 
-                return true;
-            } catch (Exception exception) {
-                LoggerUtils.error(exception.getMessage());
-                return false;
+    @Override
+    public boolean needsPolling(@NotNull ChannelRef channel) {
+        // covered offline channels wait for stream.online, live ones keep polling for viewer counts
+        return channel.isLive() || !eventSub.isCovered(channel.getChannelId());
+    }
+
+    @Override
+    public void track(@NotNull Collection<ChannelRef> channels) {
+        eventSub.track(channels.stream().map(ChannelRef::getChannelId).toList());
+    }
+
+    @Override
+    public void startPush(@NotNull BiConsumer<String, StreamSnapshot> listener) {
+        eventSub.start((userId, snapshot) -> {
+            if (!snapshot.isLive()) {
+                listener.accept(userId, snapshot);
+                return;
+            }
+
+            // stream.online carries no counts, it only triggers a hot lane read that supplies the real viewers
+            if (!isEnabled() || !isAvailable()) {
+                listener.accept(userId, StreamSnapshot.unknown());
+                return;
             }
+
+            fetchStreams(List.of(userId), RequestLane.HOT)
+                    .thenAccept(results -> {
+                        StreamSnapshot fetched = results.getOrDefault(userId, StreamSnapshot.unknown());
+                        listener.accept(userId, fetched.isLive() ? fetched : StreamSnapshot.unknown());
+                    })
+                    .exceptionally(exception -> {
+                        LoggerUtils.error(exception.getMessage());
+                        return null;
+                    });
         });
     }
 
-    @Nullable
-    private String extractUsername(@NotNull String url) {
-        Matcher matcher = USERNAME_PATTERN.matcher(url);
+    @Override
+    public void stopPush() {
+        eventSub.stop();
+    }
 
-        if (matcher.find()) return matcher.group(1).toLowerCase();
-        return null;
+    @NotNull
+    @Override
+    public CompletableFuture<Map<String, ChannelResolution>> resolveChannelIds(@NotNull Collection<String> channelUrls, @NotNull RequestLane lane) {
+        return resolveUserIds(channelUrls, lane);
     }
 
     @NotNull
-    public CompletableFuture<Boolean> isChannelLive(@NotNull String channelUrl) {
-        return ensureAccessToken().thenCompose(success -> {
-            if (!success) return CompletableFuture.completedFuture(false);
-
-            return CompletableFuture.supplyAsync(() -> {
-                try {
-                    String username = extractUsername(channelUrl);
-                    if (username == null) {
-                        LoggerUtils.error("Invalid Channel");
-                        return false;
-                    }
-
-                    String userId = getUserId(username);
-                    if (userId == null) {
-                        LoggerUtils.error("Invalid User");
-                        return false;
-                    }
-
-                    return checkIfUserIsLive(userId);
-                } catch (Exception exception) {
-                    LoggerUtils.error(exception.getMessage());
-                    return false;
-                }
+    @Override
+    public CompletableFuture<Map<String, StreamSnapshot>> fetchSnapshots(@NotNull Collection<ChannelRef> channels, @NotNull RequestLane lane) {
+        return fetchStreams(channels.stream().map(ChannelRef::getChannelId).toList(), lane);
+    }
+
+    @NotNull
+    private <T> CompletableFuture<ApiResponse<T>> sendAuthorized(@NotNull String url, @NotNull RequestLane lane, @NotNull JsonDecoder<T> decoder) {
+        TwitchCredential credential = credentials.select();
+        if (credential == null) return CompletableFuture.completedFuture(null);
+
+        return sendAuthorized(url, lane, decoder, credential).thenCompose(response -> {
+            if (response != null && response.getStatusCode() != 401 && response.getStatusCode() != 429) return CompletableFuture.completedFuture(response);
+
+            TwitchCredential fallback = credentials.select(credential);
+            return fallback != null ? sendAuthorized(url, lane, decoder, fallback) : CompletableFuture.completedFuture(response);
+        });
+    }
+
+    @NotNull
+    private <T> CompletableFuture<ApiResponse<T>> sendAuthorized(@NotNull String url, @NotNull RequestLane lane, @NotNull JsonDecoder<T> decoder, @NotNull TwitchCredential credential) {
+        TwitchTokenProvider tokenProvider = credential.getTokenProvider();
+
+        return tokenProvider.getToken().thenCompose(token -> {
+            if (token == null) return rejected(credential);
+
+            return send(url, credential, token, lane, decoder).thenCompose(response -> {
+                if (response.getStatusCode() != 401) return CompletableFuture.completedFuture(response);
+
+                tokenProvider.invalidate(token);
+
+                return tokenProvider.getToken().thenCompose(refreshed -> refreshed == null
+                        ? rejected(credential)
+                        : send(url, credential, refreshed, lane, decoder));
+            }).thenApply(response -> {
+                if (response != null && response.getStatusCode() == 401) credential.markRevoked();
+                return response;
             });
         });
     }
 
-    @Nullable
-    private String getUserId(@NotNull String username) throws IOException, InterruptedException {
-        String url = String.format("%s/users?login=%s", API_BASE, username);
+    @NotNull
+    private <T> CompletableFuture<ApiResponse<T>> rejected(@NotNull TwitchCredential credential) {
+        if (credential.getTokenProvider().isRejected()) credential.markRevoked();
+        return CompletableFuture.completedFuture(null);
+    }
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Client-ID", clientId)
-                .header("Authorization", "Bearer " + accessToken)
+    @NotNull
+    private <T> CompletableFuture<ApiResponse<T>> send(@NotNull String url, @NotNull TwitchCredential credential, @NotNull String token,
+                                                       @NotNull RequestLane lane, @NotNull JsonDecoder<T> decoder) {
+        HttpRequest request = transport.request(url)
+                .header("Client-ID", credential.getClientId())
+                .header("Authorization", "Bearer " + token)
                 .GET()
                 .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        RateLimiter rateLimiter = credential.getRateLimiter();
 
-        if (response.statusCode() != 200) {
-            LoggerUtils.error("Error! Not 200 code: " + response.statusCode());
-            return null;
-        }
+        return gateway.send(request, lane, decoder, rateLimiter).thenApply(response -> {
+            if (response.getStatusCode() == 429) rateLimiter.throttle(response.getHeaders(), THROTTLE_FALLBACK);
+            else rateLimiter.sync(response.getHeaders());
 
-        JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
-        JsonArray data = jsonResponse.getAsJsonArray("data");
+            return response;
+        });
+    }
 
-        if (data != null && !data.isEmpty()) return data.get(0).getAsJsonObject().get("id").getAsString();
+    @Nullable
+    private String extractUsername(@NotNull String url) {
+        Matcher matcher = USERNAME_PATTERN.matcher(url);
 
+        if (matcher.find()) return matcher.group(1).toLowerCase();
         return null;
     }
 
-    private boolean checkIfUserIsLive(@NotNull String userId) throws IOException, InterruptedException {
-        String url = String.format("%s/streams?user_id=%s", API_BASE, userId);
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Client-ID", clientId)
-                .header("Authorization", "Bearer " + accessToken)
-                .GET()
-                .build();
+    @NotNull
+    public CompletableFuture<Map<String, ChannelResolution>> resolveUserIds(@NotNull Collection<String> channelUrls, @NotNull RequestLane lane) {
+        Map<String, String> logins = new HashMap<>();
+        Map<String, String> resolved = new ConcurrentHashMap<>();
+        Set<String> answered = ConcurrentHashMap.newKeySet();
+        Map<String, ChannelResolution> userIds = new HashMap<>();
+
+        for (String channelUrl : channelUrls) {
+            String username = extractUsername(channelUrl);
+            if (username == null) {
+                LoggerUtils.error("Invalid Channel: {}", channelUrl);
+                userIds.put(channelUrl, ChannelResolution.notFound());
+                continue;
+            }
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            logins.put(channelUrl, username);
 
-        if (response.statusCode() != 200) {
-            plugin.getLogger().warning("Twitch API hiba (stream): " + response.statusCode());
-            return false;
+            String cached = userCache.get(username);
+            if (cached != null) resolved.put(username, cached);
         }
 
-        JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
-        JsonArray data = jsonResponse.getAsJsonArray("data");
+        List<String> missing = logins.values().stream()
+                .filter(login -> !resolved.containsKey(login))
+                .distinct()
+                .toList();
+
+        CompletableFuture<Void> lookup = missing.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : fetchUsers(missing, resolved, answered, lane);
+
+        // a login is only missing for good when its batch was answered, a failed batch stays unknown for a later retry
+        return lookup.thenApply(v -> {
+            logins.forEach((channelUrl, login) -> {
+                String userId = resolved.get(login);
+
+                if (userId != null) {
+                    userIds.put(channelUrl, ChannelResolution.resolved(userId));
+                } else if (answered.contains(login)) {
+                    LoggerUtils.error("Invalid User: {}", login);
+                    userIds.put(channelUrl, ChannelResolution.notFound());
+                } else {
+                    userIds.put(channelUrl, ChannelResolution.unknown());
+                }
+            });
 
-        return data != null && !data.isEmpty() && data.get(0).getAsJsonObject().get("type").getAsString().equals("live");
+            return userIds;
+        });
     }
 
-    public CompletableFuture<Integer> getFollowerCount(@NotNull String channelUrl) {
-        return ensureAccessToken().thenCompose(success -> {
-            if (!success) return CompletableFuture.completedFuture(0);
+    @NotNull
+    private CompletableFuture<Void> fetchUsers(@NotNull List<String> logins, @NotNull Map<String, String> resolved, @NotNull Set<String> answered, @NotNull RequestLane lane) {
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
 
-            return CompletableFuture.supplyAsync(() -> {
-                try {
-                    String username = extractUsername(channelUrl);
-                    if (username == null) return 0;
+        for (int i = 0; i < logins.size(); i += USERS_BATCH_SIZE) {
+            List<String> batch = logins.subList(i, Math.min(i + USERS_BATCH_SIZE, logins.size()));
+            batches.add(fetchUserBatch(batch, resolved, answered, lane));
+        }
 
-                    String userId = getUserId(username);
-                    if (userId == null) return 0;
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]));
+    }
 
-                    String url = String.format("%s/channels/followers?broadcaster_id=%s", API_BASE, userId);
+    @NotNull
+    private CompletableFuture<Void> fetchUserBatch(@NotNull List<String> logins, @NotNull Map<String, String> resolved, @NotNull Set<String> answered,
+                                                   @NotNull RequestLane lane) {
+        String query = logins.stream()
+                .map(login -> "login=" + login)
+                .collect(Collectors.joining("&"));
 
-                    HttpRequest request = HttpRequest.newBuilder()
-                            .uri(URI.create(url))
-                            .header("Client-ID", clientId)
-                            .header("Authorization", "Bearer " + accessToken)
-                            .GET()
-                            .build();
+        String url = String.format("%s/users?%s", API_BASE, query);
 
-                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return sendAuthorized(url, lane, reader -> {
+            Map<String, String> fetched = new HashMap<>();
 
-                    if (response.statusCode() != 200) return 0;
+            USER_FIELDS.forEach(reader, "data", user -> {
+                String login = user.get("login");
+                String id = user.get("id");
 
-                    JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
-                    return jsonResponse.get("total").getAsInt();
-                } catch (Exception exception) {
-                    LoggerUtils.error(exception.getMessage());
-                    return 0;
-                }
+                if (login != null && id != null) fetched.put(login.toLowerCase(), id);
             });
+
+            return fetched;
+        }).thenAccept(response -> {
+            if (response == null) return;
+            if (!response.isSuccess()) {
+                LoggerUtils.error("Error! Not 200 code: " + response.getStatusCode());
+                return;
+            }
+
+            resolved.putAll(response.getBody());
+            answered.addAll(logins);
+            userCache.putAll(response.getBody());
+        }).exceptionally(exception -> {
+            LoggerUtils.error(exception.getMessage());
+            return null;
         });
     }
 
-    public CompletableFuture<Integer> getCurrentViewerCount(@NotNull String channelUrl) {
-        return ensureAccessToken().thenCompose(success -> {
-            if (!success) return CompletableFuture.completedFuture(0);
+    @NotNull
+    public CompletableFuture<Map<String, StreamSnapshot>> fetchStreams(@NotNull Collection<String> userIds, @NotNull RequestLane lane) {
+        if (userIds.isEmpty()) return CompletableFuture.completedFuture(Collections.emptyMap());
 
-            return CompletableFuture.supplyAsync(() -> {
-                try {
-                    String username = extractUsername(channelUrl);
-                    if (username == null) return 0;
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Map<String, StreamSnapshot> results = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
 
-                    String userId = getUserId(username);
-                    if (userId == null) return 0;
+        ids.forEach(id -> results.put(id, StreamSnapshot.offline()));
 
-                    String url = String.format("%s/streams?user_id=%s", API_BASE, userId);
+        for (int i = 0; i < ids.size(); i += STREAMS_BATCH_SIZE) {
+            List<String> batch = ids.subList(i, Math.min(i + STREAMS_BATCH_SIZE, ids.size()));
+            batches.add(fetchStreamBatch(batch, results, lane));
+        }
 
-                    HttpRequest request = HttpRequest.newBuilder()
-                            .uri(URI.create(url))
-                            .header("Client-ID", clientId)
-                            .header("Authorization", "Bearer " + accessToken)
-                            .GET()
-                            .build();
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).thenApply(v -> results);
+    }
 
-                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    @NotNull
+    private CompletableFuture<Void> fetchStreamBatch(@NotNull List<String> userIds, @NotNull Map<String, StreamSnapshot> results, @NotNull RequestLane lane) {
+        String query = userIds.stream()
+                .map(id -> "user_id=" + id)
+                .collect(Collectors.joining("&"));
 
-                    if (response.statusCode() != 200) return 0;
+        String url = String.format("%s/streams?first=%d&%s", API_BASE, STREAMS_BATCH_SIZE, query);
 
-                    JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
-                    JsonArray data = jsonResponse.getAsJsonArray("data");
+        return sendAuthorized(url, lane, reader -> {
+            STREAM_FIELDS.forEach(reader, "data", stream -> {
+                String userId = stream.get("user_id");
+                if (userId == null || !"live".equals(stream.get("type"))) return;
 
-                    if (data == null || data.isEmpty()) return 0;
+                String startedAt = stream.get("started_at");
+                String viewers = stream.get("viewer_count");
 
-                    return data.get(0).getAsJsonObject().get("viewer_count").getAsInt();
-                } catch (Exception exception) {
-                    LoggerUtils.error(exception.getMessage());
-                    return 0;
-                }
+                results.put(userId, StreamSnapshot.live(viewers != null ? Integer.parseInt(viewers) : 0,
+                        startedAt != null ? Instant.parse(startedAt) : null, stream.get("title")));
             });
+
+            return null;
+        }).thenAccept(response -> {
+            if (response != null && response.isSuccess()) return;
+
+            userIds.forEach(id -> results.put(id, StreamSnapshot.unknown()));
+            if (response != null && response.getStatusCode() != 429) LoggerUtils.warn("Twitch API error (stream): {}", response.getStatusCode());
+        }).exceptionally(exception -> {
+            userIds.forEach(id -> results.put(id, StreamSnapshot.unknown()));
+            LoggerUtils.error(exception.getMessage());
+            return null;
+        });
+    }
+
+    @NotNull
+    @Override
+    public CompletableFuture<Map<String, Integer>> fetchFollowerCounts(@NotNull Collection<String> userIds, @NotNull RequestLane lane) {
+        if (userIds.isEmpty()) return CompletableFuture.completedFuture(Collections.emptyMap());
+
+        Map<String, Integer> results = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+
+        for (String userId : new LinkedHashSet<>(userIds)) {
+            requests.add(fetchFollowerCount(userId, lane).thenAccept(followers -> {
+                if (followers != null) results.put(userId, followers);
+            }));
+        }
+
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture[0])).thenApply(v -> results);
+    }
+
+    @NotNull
+    private CompletableFuture<Integer> fetchFollowerCount(@NotNull String userId, @NotNull RequestLane lane) {
+        String url = String.format("%s/channels/followers?broadcaster_id=%s&first=1", API_BASE, userId);
+
+        return sendAuthorized(url, lane, reader -> FOLLOWER_FIELDS.read(reader).get("total")).thenApply(response -> {
+            if (response == null || !response.isSuccess() || response.getBody() == null) return null;
+            return Integer.parseInt(response.getBody());
+        }).exceptionally(exception -> {
+            LoggerUtils.error(exception.getMessage());
+            return null;
         });
     }
 }
@@ -0,0 +1,21 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.McStreamLink;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+public class TwitchCredential extends ApiCredential {
+    @Getter private final String clientId;
+    @Getter private final TwitchTokenProvider tokenProvider;
+
+    public TwitchCredential(@NotNull McStreamLink plugin, @NotNull HttpTransport transport, @NotNull String clientId, @NotNull String clientSecret, int requestsPerMinute) {
+        super("Twitch", clientId, requestsPerMinute);
+        this.clientId = clientId;
+        this.tokenProvider = new TwitchTokenProvider(plugin, transport, clientId, clientSecret);
+    }
+
+    @Override
+    public double getHeadroom() {
+        return getRateLimiter().getAvailable();
+    }
+}
@@ -0,0 +1,412 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.github.Anon8281.universalScheduler.scheduling.tasks.MyScheduledTask;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.data.StreamSnapshot;
+import com.mongenscave.mcstreamlink.identifiers.RequestLane;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.http.HttpRequest;
+import java.net.http.WebSocket;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+public class TwitchEventSubClient {
+    private static final String STREAM_ONLINE = "stream.online";
+    private static final String STREAM_OFFLINE = "stream.offline";
+    private static final List<String> SUBSCRIPTION_TYPES = List.of(STREAM_ONLINE, STREAM_OFFLINE);
+    private static final JsonFields SUBSCRIPTION_FIELDS = new JsonFields("id");
+    private static final long KEEPALIVE_GRACE_MILLIS = 10_000L;
+    private static final long WATCHDOG_TICKS = 100L;
+    private static final int MAX_RECONNECT_DELAY_SECONDS = 60;
+    private static final int RECENT_MESSAGES = 256;
+
+    private final McStreamLink plugin;
+    private final HttpTransport transport;
+    private final PlatformGateway gateway;
+    private final RateLimiter rateLimiter;
+    private final Set<String> wanted;
+    private final Map<String, String> subscriptions;
+    private final Set<String> pending;
+    private final Set<String> failed;
+    private final Set<String> recentMessages;
+    private final AtomicBoolean failureLogged;
+
+    private volatile BiConsumer<String, StreamSnapshot> listener;
+    private volatile String clientId;
+    private volatile Connection active;
+    private volatile String sessionId;
+    private volatile long keepaliveMillis;
+    private volatile long lastMessageAt;
+    private volatile boolean stopped;
+    private int reconnectAttempts;
+    private MyScheduledTask watchdog;
+
+    public TwitchEventSubClient(@NotNull McStreamLink plugin, @NotNull HttpTransport transport, @NotNull PlatformGateway gateway) {
+        this.plugin = plugin;
+        this.transport = transport;
+        this.gateway = gateway;
+        this.rateLimiter = new RateLimiter("Twitch EventSub", ConfigKeys.API_TWITCH_REQUESTS_PER_MINUTE.getInt());
+
+        this.wanted = ConcurrentHashMap.newKeySet();
+        this.subscriptions = new ConcurrentHashMap<>();
+        this.pending = ConcurrentHashMap.newKeySet();
+        this.failed = ConcurrentHashMap.newKeySet();
+        this.recentMessages = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > RECENT_MESSAGES;
+            }
+        }));
+        this.failureLogged = new AtomicBoolean(false);
+    }
+
+    public void start(@NotNull BiConsumer<String, StreamSnapshot> listener) {
+        if (!ConfigKeys.API_TWITCH_EVENTSUB_ENABLED.getBoolean()) return;
+
+        String eventSubClientId = ConfigKeys.API_TWITCH_EVENTSUB_CLIENT_ID.getString().trim();
+        clientId = eventSubClientId.isEmpty() ? ConfigKeys.API_TWITCH_CLIENT_ID.getString().trim() : eventSubClientId;
+
+        if (clientId.isEmpty() || ConfigKeys.API_TWITCH_EVENTSUB_ACCESS_TOKEN.getString().isBlank()) {
+            LoggerUtils.warn("Twitch EventSub needs a client id and a user access token, staying on polling");
+            return;
+        }
+
+        this.listener = listener;
+        this.stopped = false;
+
+        connect(ConfigKeys.API_TWITCH_EVENTSUB_URL.getString(), false);
+        watchdog = plugin.getScheduler().runTaskTimerAsynchronously(this::checkKeepalive, WATCHDOG_TICKS, WATCHDOG_TICKS);
+    }
+
+    public void stop() {
+        stopped = true;
+        if (watchdog != null && !watchdog.isCancelled()) watchdog.cancel();
+
+        Connection connection = active;
+        active = null;
+        sessionId = null;
+        subscriptions.clear();
+
+        if (connection != null) connection.close();
+    }
+
+    public boolean isCovered(@NotNull String userId) {
+        if (sessionId == null) return false;
+
+        for (String type : SUBSCRIPTION_TYPES) {
+            if (!subscriptions.containsKey(key(type, userId))) return false;
+        }
+
+        return true;
+    }
+
+    public void track(@NotNull Collection<String> userIds) {
+        if (listener == null) return;
+
+        Set<String> removed = new HashSet<>(wanted);
+        removed.removeAll(userIds);
+
+        wanted.addAll(userIds);
+        wanted.removeAll(removed);
+
+        removed.forEach(this::unsubscribe);
+        subscribeMissing();
+    }
+
+    private void connect(@NotNull String url, boolean migrating) {
+        Connection connection = new Connection(migrating);
+        if (!migrating) active = connection;
+
+        lastMessageAt = System.currentTimeMillis();
+
+        transport.openWebSocket(url, connection).exceptionally(exception -> {
+            handleClosed(connection, exception.getMessage());
+            return null;
+        });
+    }
+
+    private void handleMessage(@NotNull Connection connection, @NotNull String text) {
+        lastMessageAt = System.currentTimeMillis();
+
+        JsonObject message = JsonParser.parseString(text).getAsJsonObject();
+        JsonObject metadata = message.getAsJsonObject("metadata");
+        JsonObject payload = message.getAsJsonObject("payload");
+        if (metadata == null || payload == null) return;
+
+        switch (getString(metadata, "message_type")) {
+            case "session_welcome" -> handleWelcome(connection, payload.getAsJsonObject("session"));
+            case "session_reconnect" -> {
+                String reconnectUrl = getString(payload.getAsJsonObject("session"), "reconnect_url");
+                if (!reconnectUrl.isEmpty()) connect(reconnectUrl, true);
+            }
+            case "notification" -> {
+                if (recentMessages.add(getString(metadata, "message_id"))) handleNotification(payload);
+            }
+            case "revocation" -> {
+                JsonObject subscription = payload.getAsJsonObject("subscription");
+                String userId = getString(subscription.getAsJsonObject("condition"), "broadcaster_user_id");
+
+                subscriptions.remove(key(getString(subscription, "type"), userId));
+                LoggerUtils.warn("Twitch EventSub revoked {} for {} ({}), polling it instead", getString(subscription, "type"), userId, getString(subscription, "status"));
+            }
+            default -> {}
+        }
+    }
+
+    private void handleWelcome(@NotNull Connection connection, @Nullable JsonObject session) {
+        if (session == null) return;
+
+        Connection previous = active;
+        active = connection;
+        sessionId = getString(session, "id");
+        keepaliveMillis = TimeUnit.SECONDS.toMillis(session.has("keepalive_timeout_seconds") ? session.get("keepalive_timeout_seconds").getAsLong() : 10L);
+
+        synchronized (this) {
+            reconnectAttempts = 0;
+        }
+
+        // a reconnect_url session inherits every subscription, only the old socket has to go
+        if (connection.migrating) {
+            if (previous != null && previous != connection) previous.close();
+            return;
+        }
+
+        subscriptions.clear();
+        failed.clear();
+        failureLogged.set(false);
+
+        LoggerUtils.info("Twitch EventSub connected, subscribing to {} channels", wanted.size());
+        subscribeMissing();
+    }
+
+    private void handleNotification(@NotNull JsonObject payload) {
+        JsonObject subscription = payload.getAsJsonObject("subscription");
+        JsonObject event = payload.getAsJsonObject("event");
+        BiConsumer<String, StreamSnapshot> callback = listener;
+        if (subscription == null || event == null || callback == null) return;
+
+        String userId = getString(event, "broadcaster_user_id");
+        if (userId.isEmpty()) return;
+
+        switch (getString(subscription, "type")) {
+            case STREAM_ONLINE -> {
+                if (!"live".equals(getString(event, "type"))) return;
+
+                String startedAt = getString(event, "started_at");
+                callback.accept(userId, StreamSnapshot.live(0, startedAt.isEmpty() ? null : Instant.parse(startedAt), null));
+            }
+            case STREAM_OFFLINE -> callback.accept(userId, StreamSnapshot.offline());
+            default -> {}
+        }
+    }
+
+    private void handleClosed(@NotNull Connection connection, @Nullable String reason) {
+        if (connection != active) return;
+
+        active = null;
+        sessionId = null;
+        subscriptions.clear();
+
+        if (stopped) return;
+
+        LoggerUtils.warn("Twitch EventSub disconnected ({}), polling until it reconnects", reason);
+        scheduleReconnect();
+    }
+
+    private void scheduleReconnect() {
+        int delaySeconds;
+
+        synchronized (this) {
+            delaySeconds = Math.min(MAX_RECONNECT_DELAY_SECONDS, 1 << Math.min(reconnectAttempts++, 6));
+        }
+
+        long delayTicks = delaySeconds * 20L + ThreadLocalRandom.current().nextLong(20L);
+        plugin.getScheduler().runTaskLaterAsynchronously(() -> {
+            if (!stopped && active == null) connect(ConfigKeys.API_TWITCH_EVENTSUB_URL.getString(), false);
+        }, delayTicks);
+    }
+
+    private void checkKeepalive() {
+        Connection connection = active;
+        if (connection == null) return;
+
+        long timeout = (sessionId != null ? keepaliveMillis : 0L) + KEEPALIVE_GRACE_MILLIS;
+        if (System.currentTimeMillis() - lastMessageAt <= timeout) return;
+
+        connection.abort();
+        handleClosed(connection, "keepalive timeout");
+    }
+
+    private void subscribeMissing() {
+        String session = sessionId;
+        if (session == null) return;
+
+        for (String userId : wanted) {
+            for (String type : SUBSCRIPTION_TYPES) {
+                String key = key(type, userId);
+                if (subscriptions.containsKey(key) || failed.contains(key) || !pending.add(key)) continue;
+
+                subscribe(session, type, userId, key);
+            }
+        }
+    }
+
+    private void subscribe(@NotNull String session, @NotNull String type, @NotNull String userId, @NotNull String key) {
+        JsonObject condition = new JsonObject();
+        condition.addProperty("broadcaster_user_id", userId);
+
+        JsonObject transportBody = new JsonObject();
+        transportBody.addProperty("method", "websocket");
+        transportBody.addProperty("session_id", session);
+
+        JsonObject body = new JsonObject();
+        body.addProperty("type", type);
+        body.addProperty("version", "1");
+        body.add("condition", condition);
+        body.add("transport", transportBody);
+
+        HttpRequest request = authorized(ConfigKeys.API_TWITCH_EVENTSUB_SUBSCRIPTIONS_URL.getString())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+
+        gateway.send(request, RequestLane.BACKGROUND, reader -> {
+            StringBuilder id = new StringBuilder();
+            SUBSCRIPTION_FIELDS.forEach(reader, "data", subscription -> {
+                if (id.isEmpty() && subscription.get("id") != null) id.append(subscription.get("id"));
+            });
+
+            return id.toString();
+        }, rateLimiter).thenAccept(response -> {
+            if (!session.equals(sessionId)) return;
+
+            if (response.isSuccess() || response.getStatusCode() == 409) {
+                subscriptions.put(key, response.getBody() != null ? response.getBody() : "");
+                return;
+            }
+
+            failed.add(key);
+
+            if (failureLogged.compareAndSet(false, true)) {
+                if (response.getStatusCode() == 429) LoggerUtils.warn("Twitch EventSub subscription limit reached, remaining channels stay on polling");
+                else LoggerUtils.warn("Twitch EventSub subscription failed ({}), affected channels stay on polling", response.getStatusCode());
+            }
+        }).exceptionally(exception -> {
+            LoggerUtils.error(exception.getMessage());
+            return null;
+        }).whenComplete((v, exception) -> pending.remove(key));
+    }
+
+    private void unsubscribe(@NotNull String userId) {
+        for (String type : SUBSCRIPTION_TYPES) {
+            String subscriptionId = subscriptions.remove(key(type, userId));
+            failed.remove(key(type, userId));
+            if (subscriptionId == null || subscriptionId.isEmpty()) continue;
+
+            HttpRequest request = authorized(ConfigKeys.API_TWITCH_EVENTSUB_SUBSCRIPTIONS_URL.getString() + "?id=" + subscriptionId)
+                    .DELETE()
+                    .build();
+
+            gateway.send(request, RequestLane.BACKGROUND, reader -> null, rateLimiter).exceptionally(exception -> {
+                LoggerUtils.error(exception.getMessage());
+                return null;
+            });
+        }
+    }
+
+    @NotNull
+    private HttpRequest.Builder authorized(@NotNull String url) {
+        return transport.request(url)
+                .header("Client-ID", clientId)
+                .header("Authorization", "Bearer " + ConfigKeys.API_TWITCH_EVENTSUB_ACCESS_TOKEN.getString().trim());
+    }
+
+    @NotNull
+    private static String key(@NotNull String type, @NotNull String userId) {
+        return type + ":" + userId;
+    }
+
+    @NotNull
+    private static String getString(@Nullable JsonObject object, @NotNull String member) {
+        if (object == null) return "";
+
+        JsonElement element = object.get(member);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : "";
+    }
+
+    private class Connection implements WebSocket.Listener {
+        private final boolean migrating;
+        private final StringBuilder buffer;
+        private volatile WebSocket socket;
+
+        private Connection(boolean migrating) {
+            this.migrating = migrating;
+            this.buffer = new StringBuilder();
+        }
+
+        @Override
+        public void onOpen(@NotNull WebSocket webSocket) {
+            socket = webSocket;
+            webSocket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(@NotNull WebSocket webSocket, @NotNull CharSequence data, boolean last) {
+            buffer.append(data);
+
+            if (last) {
+                String text = buffer.toString();
+                buffer.setLength(0);
+
+                try {
+                    handleMessage(this, text);
+                } catch (RuntimeException exception) {
+                    LoggerUtils.error("Twitch EventSub message could not be handled: {}", exception.getMessage());
+                }
+            }
+
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(@NotNull WebSocket webSocket, int statusCode, @NotNull String reason) {
+            handleClosed(this, statusCode + (reason.isEmpty() ? "" : " " + reason));
+            return null;
+        }
+
+        @Override
+        public void onError(@NotNull WebSocket webSocket, @NotNull Throwable error) {
+            handleClosed(this, error.getMessage());
+        }
+
+        private void close() {
+            WebSocket current = socket;
+            if (current != null) current.sendClose(WebSocket.NORMAL_CLOSURE, "").exceptionally(exception -> null);
+        }
+
+        private void abort() {
+            WebSocket current = socket;
+            if (current != null) current.abort();
+        }
+    }
+}
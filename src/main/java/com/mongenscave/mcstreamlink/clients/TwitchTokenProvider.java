@@ -0,0 +1,115 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.github.Anon8281.universalScheduler.scheduling.tasks.MyScheduledTask;
+import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.http.HttpRequest;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TwitchTokenProvider {
+    private static final String TOKEN_URL = "https://id.twitch.tv/oauth2/token";
+    private static final long EXPIRY_MARGIN_SECONDS = 300L;
+    private static final long REFRESH_AHEAD_SECONDS = 600L;
+    private static final JsonFields TOKEN_FIELDS = new JsonFields("access_token", "expires_in");
+
+    private final McStreamLink plugin;
+    private final HttpTransport transport;
+    private final String clientId;
+    private final String clientSecret;
+    private final AtomicReference<CompletableFuture<String>> inFlight;
+
+    @Getter private volatile boolean rejected;
+    private volatile String accessToken;
+    private volatile Instant tokenExpiry;
+    private MyScheduledTask refreshTask;
+
+    public TwitchTokenProvider(@NotNull McStreamLink plugin, @NotNull HttpTransport transport, @NotNull String clientId, @NotNull String clientSecret) {
+        this.plugin = plugin;
+        this.transport = transport;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.inFlight = new AtomicReference<>();
+    }
+
+    @NotNull
+    public CompletableFuture<String> getToken() {
+        String token = accessToken;
+        Instant expiry = tokenExpiry;
+
+        if (token != null && expiry != null && Instant.now().isBefore(expiry)) return CompletableFuture.completedFuture(token);
+        return refresh();
+    }
+
+    @NotNull
+    public CompletableFuture<String> refresh() {
+        while (true) {
+            CompletableFuture<String> current = inFlight.get();
+            if (current != null) return current;
+
+            CompletableFuture<String> created = new CompletableFuture<>();
+
+            if (inFlight.compareAndSet(null, created)) {
+                requestToken().whenComplete((token, exception) -> {
+                    inFlight.set(null);
+
+                    if (exception != null) LoggerUtils.error(exception.getMessage());
+                    created.complete(exception != null ? null : token);
+                });
+
+                return created;
+            }
+        }
+    }
+
+    public void invalidate(@Nullable String token) {
+        if (token == null || !token.equals(accessToken)) return;
+
+        accessToken = null;
+        tokenExpiry = null;
+    }
+
+    public synchronized void shutdown() {
+        if (refreshTask != null && !refreshTask.isCancelled()) refreshTask.cancel();
+    }
+
+    @NotNull
+    private CompletableFuture<String> requestToken() {
+        String url = String.format("%s?client_id=%s&client_secret=%s&grant_type=client_credentials",
+                TOKEN_URL, clientId, clientSecret);
+
+        HttpRequest request = transport.request(url)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        return transport.sendAsync(request, TOKEN_FIELDS::read).thenApply(response -> {
+            int statusCode = response.getStatusCode();
+            rejected = statusCode == 400 || statusCode == 401 || statusCode == 403;
+
+            if (!response.isSuccess() || response.getBody() == null) {
+                LoggerUtils.error("TwitchApiClient failed to send Twitch API response");
+                return null;
+            }
+
+            String token = response.getBody().get("access_token");
+            long expiresIn = Long.parseLong(response.getBody().getOrDefault("expires_in", "0"));
+            if (token == null) return null;
+
+            tokenExpiry = Instant.now().plusSeconds(Math.max(0L, expiresIn - EXPIRY_MARGIN_SECONDS));
+            accessToken = token;
+
+            scheduleRefresh(Math.max(1L, expiresIn - REFRESH_AHEAD_SECONDS));
+            return token;
+        });
+    }
+
+    private synchronized void scheduleRefresh(long delaySeconds) {
+        if (refreshTask != null && !refreshTask.isCancelled()) refreshTask.cancel();
+        refreshTask = plugin.getScheduler().runTaskLaterAsynchronously(this::refresh, delaySeconds * 20L);
+    }
+}
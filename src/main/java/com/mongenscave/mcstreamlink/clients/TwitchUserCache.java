@@ -0,0 +1,104 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TwitchUserCache {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String DATA_FILE = "twitch-users.json";
+    private static final int MAX_ENTRIES = 4096;
+    private static final long SAVE_DELAY_TICKS = 200L;
+
+    private final McStreamLink plugin;
+    private final File dataFile;
+    private final AtomicBoolean saveScheduled;
+    private final Map<String, String> userIds;
+
+    public TwitchUserCache(@NotNull McStreamLink plugin) {
+        this.plugin = plugin;
+        this.dataFile = new File(plugin.getDataFolder(), DATA_FILE);
+        this.saveScheduled = new AtomicBoolean(false);
+        this.userIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+
+        loadData();
+    }
+
+    @Nullable
+    public synchronized String get(@NotNull String login) {
+        return userIds.get(login);
+    }
+
+    public void putAll(@NotNull Map<String, String> resolved) {
+        if (resolved.isEmpty()) return;
+
+        synchronized (this) {
+            userIds.putAll(resolved);
+        }
+
+        scheduleSave();
+    }
+
+    private void loadData() {
+        if (!dataFile.exists()) return;
+
+        try (Reader reader = new FileReader(dataFile)) {
+            Type type = new TypeToken<Map<String, String>>(){}.getType();
+            Map<String, String> loaded = GSON.fromJson(reader, type);
+
+            if (loaded != null) {
+                synchronized (this) {
+                    userIds.putAll(loaded);
+                }
+            }
+        } catch (Exception exception) {
+            LoggerUtils.error(exception.getMessage());
+        }
+    }
+
+    private void saveData() {
+        saveScheduled.set(false);
+
+        Map<String, String> snapshot;
+
+        synchronized (this) {
+            snapshot = new LinkedHashMap<>(userIds);
+        }
+
+        synchronized (dataFile) {
+            try (Writer writer = new FileWriter(dataFile)) {
+                GSON.toJson(snapshot, writer);
+            } catch (IOException exception) {
+                LoggerUtils.error(exception.getMessage());
+            }
+        }
+    }
+
+    private void scheduleSave() {
+        if (saveScheduled.compareAndSet(false, true)) plugin.getScheduler().runTaskLaterAsynchronously(this::saveData, SAVE_DELAY_TICKS);
+    }
+
+    public void save() {
+        saveData();
+    }
+}
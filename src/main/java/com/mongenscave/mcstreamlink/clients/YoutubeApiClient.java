@@ -1,244 +1,585 @@
 package com.mongenscave.mcstreamlink.clients;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.data.ApiResponse;
+import com.mongenscave.mcstreamlink.data.CachedResponse;
+import com.mongenscave.mcstreamlink.data.ChannelRef;
+import com.mongenscave.mcstreamlink.data.ChannelResolution;
+import com.mongenscave.mcstreamlink.data.StreamSnapshot;
+import com.mongenscave.mcstreamlink.exception.CredentialUnavailableException;
+import com.mongenscave.mcstreamlink.identifiers.ChannelStatus;
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.identifiers.RequestLane;
+import com.mongenscave.mcstreamlink.identifiers.ResolveStatus;
+import com.mongenscave.mcstreamlink.identifiers.YoutubeEndpoint;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
 import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-public class YoutubeApiClient {
+public class YoutubeApiClient implements StreamPlatform {
     private static final String API_BASE = "https://www.googleapis.com/youtube/v3";
     private static final Pattern CHANNEL_ID_PATTERN = Pattern.compile("youtube\\.com/channel/([^/?]+)");
     private static final Pattern CHANNEL_USERNAME_PATTERN = Pattern.compile("youtube\\.com/@([^/?]+)");
     private static final Pattern CHANNEL_CUSTOM_PATTERN = Pattern.compile("youtube\\.com/c/([^/?]+)");
     private static final Pattern CHANNEL_USER_PATTERN = Pattern.compile("youtube\\.com/user/([^/?]+)");
+    private static final int VIDEOS_BATCH_SIZE = 50;
+    private static final int CHANNELS_BATCH_SIZE = 50;
+    private static final int DISCOVERY_RESULTS = 5;
+    private static final int UPCOMING_DISCOVERY_EVERY = 4;
+    private static final int STATISTICS_CACHE_SIZE = 256;
+    private static final Duration THROTTLE_FALLBACK = Duration.ofSeconds(30);
+    private static final Set<String> KEY_ERROR_REASONS = Set.of("keyInvalid", "keyExpired", "accessNotConfigured", "ipRefererBlocked");
+    private static final JsonFields SEARCH_FIELDS = new JsonFields("id.videoId");
+    private static final JsonFields VIDEO_FIELDS = new JsonFields("id", "snippet.liveBroadcastContent", "snippet.title",
+            "liveStreamingDetails.concurrentViewers", "liveStreamingDetails.actualStartTime");
+    private static final JsonFields CHANNEL_ID_FIELDS = new JsonFields("id");
+    private static final JsonFields STATISTICS_FIELDS = new JsonFields("id", "statistics.subscriberCount");
+
+    private final HttpTransport transport;
+    @Getter private final YoutubeQuotaTracker quotaTracker;
+    @Getter private final YoutubeBroadcastRegistry broadcastRegistry;
+    @Getter private final CredentialPool<YoutubeCredential> credentials;
+    @Getter private final PlatformGateway gateway;
+    @Getter private final YoutubeWebSubReceiver webSub;
+    private final EtagCache<Map<String, Integer>> statisticsCache;
+    private volatile long discoveryInterval;
+
+    public YoutubeApiClient(@NotNull McStreamLink plugin, @NotNull HttpTransport transport, @NotNull List<String> apiKeys) {
+        this.transport = transport;
+        this.quotaTracker = new YoutubeQuotaTracker(plugin, apiKeys.stream().map(YoutubeCredential::fingerprint).toList());
+        this.broadcastRegistry = new YoutubeBroadcastRegistry(plugin);
+        this.gateway = new PlatformGateway("YouTube", transport);
+        this.statisticsCache = new EtagCache<>(STATISTICS_CACHE_SIZE);
+        this.webSub = new YoutubeWebSubReceiver(plugin, transport);
+
+        int requestsPerMinute = ConfigKeys.API_YOUTUBE_REQUESTS_PER_MINUTE.getInt();
+        this.credentials = new CredentialPool<>(apiKeys.stream()
+                .map(apiKey -> new YoutubeCredential(apiKey, quotaTracker, requestsPerMinute))
+                .toList());
+    }
+
+    @NotNull
+    @Override
+    public PlatformType getType() {
+        return PlatformType.YOUTUBE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ConfigKeys.API_YOUTUBE_ENABLED.getBoolean();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return quotaTracker.getRemaining() > 0 && !gateway.getCircuitBreaker().isOpen() && credentials.hasUsable();
+    }
+
+    @Override
+    public int getBatchSize() {
+        return VIDEOS_BATCH_SIZE;
+    }
+
+    @Override
+    public int getBatchCost() {
+        return YoutubeEndpoint.VIDEOS.getCost();
+    }
+
+    @Override
+    public long getRemainingBudget() {
+        return quotaTracker.getRemaining();
+    }
+
+    @Override
+    public int getRequestsPerMinute() {
+        return ConfigKeys.API_YOUTUBE_REQUESTS_PER_MINUTE.getInt() * Math.max(1, credentials.getCredentials().size());
+    }
+
+    @Override
+    public boolean matchesUrl(@NotNull String url) {
+        return url.contains("youtube.com") || url.contains("youtu.be");
+    }
+
+    @Override
+    public void track(@NotNull Collection<ChannelRef> channels) {
+        List<String> channelIds = channels.stream()
+                .map(ChannelRef::getChannelId)
+                .distinct()
+                .toList();
+
+        webSub.track(channelIds);
+        updateDiscoveryInterval(channelIds.size());
+    }
+
+    @Override
+    public void startPush(@NotNull BiConsumer<String, StreamSnapshot> listener) {
+        webSub.start((channelId, videoId) -> {
+            if (!isEnabled() || !isAvailable()) return;
+
+            checkPushedVideo(channelId, videoId)
+                    .thenAccept(snapshot -> listener.accept(channelId, snapshot))
+                    .exceptionally(exception -> {
+                        LoggerUtils.error(exception.getMessage());
+                        return null;
+                    });
+        });
+    }
+
+    @Override
+    public void stopPush() {
+        webSub.stop();
+    }
+
+    @NotNull
+    @Override
+    public CompletableFuture<Map<String, ChannelResolution>> resolveChannelIds(@NotNull Collection<String> channelUrls, @NotNull RequestLane lane) {
+        Map<String, ChannelResolution> resolved = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> lookups = new ArrayList<>();
+
+        for (String channelUrl : new LinkedHashSet<>(channelUrls)) {
+            lookups.add(resolveChannelId(channelUrl, lane).thenAccept(resolution -> resolved.put(channelUrl, resolution)));
+        }
+
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0])).thenApply(v -> resolved);
+    }
+
+    @NotNull
+    public CompletableFuture<ChannelResolution> resolveChannelId(@NotNull String channelUrl, @NotNull RequestLane lane) {
+        return extractChannelId(channelUrl, lane).thenApply(resolution -> {
+            if (resolution.getStatus() == ResolveStatus.NOT_FOUND) LoggerUtils.error("Failed to extract channel ID from URL: " + channelUrl);
+            return resolution;
+        }).exceptionally(exception -> {
+            LoggerUtils.error(exception.getMessage());
+            return ChannelResolution.unknown();
+        });
+    }
+
+    @NotNull
+    @Override
+    public CompletableFuture<Map<String, StreamSnapshot>> fetchSnapshots(@NotNull Collection<ChannelRef> channels, @NotNull RequestLane lane) {
+        List<String> channelIds = channels.stream()
+                .map(ChannelRef::getChannelId)
+                .distinct()
+                .toList();
+
+        return pollSnapshots(channelIds, Math.max(discoveryInterval, ConfigKeys.API_YOUTUBE_DISCOVERY_INTERVAL.getInt()), lane);
+    }
+
+    // sized from every tracked channel, a single fetch only sees the few channels due in one lane
+    private void updateDiscoveryInterval(int channels) {
+        long baseInterval = ConfigKeys.API_YOUTUBE_DISCOVERY_INTERVAL.getInt();
+        long checksPerDiscovery = Math.max(1L, baseInterval / Math.max(1, ConfigKeys.CHECK_INTERVAL.getInt()));
+        long videoBatches = (channels + VIDEOS_BATCH_SIZE - 1) / VIDEOS_BATCH_SIZE;
+
+        long discoveryCost = (long) channels * YoutubeEndpoint.SEARCH.getCost() * (UPCOMING_DISCOVERY_EVERY + 1) / UPCOMING_DISCOVERY_EVERY
+                + checksPerDiscovery * videoBatches * YoutubeEndpoint.VIDEOS.getCost();
+
+        long interval = quotaTracker.getPollInterval(discoveryCost, baseInterval);
+
+        boolean wasStretched = discoveryInterval > baseInterval;
+
+        if (interval > baseInterval && !wasStretched) LoggerUtils.info("YouTube discovery stretched to every {}s to stay within the daily quota", interval);
+        else if (interval <= baseInterval && wasStretched) LoggerUtils.info("YouTube discovery back to every {}s", baseInterval);
+
+        discoveryInterval = interval;
+    }
+
+    @NotNull
+    private CompletableFuture<Map<String, StreamSnapshot>> pollSnapshots(@NotNull Collection<String> channelIds, long discoveryIntervalSeconds, @NotNull RequestLane lane) {
+        if (channelIds.isEmpty()) return CompletableFuture.completedFuture(Collections.emptyMap());
+
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(channelIds));
+        Map<String, ChannelStatus> statuses = new ConcurrentHashMap<>();
+        long discoveryInterval = TimeUnit.SECONDS.toMillis(discoveryIntervalSeconds);
+        long pushedDiscoveryInterval = Math.max(discoveryInterval, TimeUnit.SECONDS.toMillis(ConfigKeys.API_YOUTUBE_WEBSUB_DISCOVERY_INTERVAL.getInt()));
+
+        List<CompletableFuture<Void>> discoveries = new ArrayList<>();
+
+        for (String channelId : ids) {
+            long interval = webSub.isSubscribed(channelId) ? pushedDiscoveryInterval : discoveryInterval;
+            if (!broadcastRegistry.isDiscoveryDue(channelId, interval)) continue;
+
+            // live is searched on every pass so go-live latency stays one interval, scheduled streams only need an occasional look
+            int discovery = broadcastRegistry.startDiscovery(channelId);
+            discoveries.add(discoverBroadcasts(channelId, "live", statuses, lane));
+            if (discovery % UPCOMING_DISCOVERY_EVERY == 0) discoveries.add(discoverBroadcasts(channelId, "upcoming", statuses, lane));
+        }
+
+        return CompletableFuture.allOf(discoveries.toArray(new CompletableFuture[0]))
+                .thenCompose(v -> fetchTrackedVideos(ids, statuses, lane))
+                .thenApply(v -> collectSnapshots(ids, statuses));
+    }
+
+    @NotNull
+    public CompletableFuture<StreamSnapshot> checkPushedVideo(@NotNull String channelId, @NotNull String videoId) {
+        Map<String, ChannelStatus> statuses = new ConcurrentHashMap<>();
+        List<String> ids = List.of(channelId);
+
+        broadcastRegistry.track(channelId, videoId);
+
+        return fetchTrackedVideos(ids, statuses, RequestLane.HOT).thenApply(v -> collectSnapshots(ids, statuses).get(channelId));
+    }
+
+    @NotNull
+    private CompletableFuture<Void> fetchTrackedVideos(@NotNull List<String> channelIds, @NotNull Map<String, ChannelStatus> statuses, @NotNull RequestLane lane) {
+        Map<String, String> owners = broadcastRegistry.getTrackedVideos(channelIds);
+        List<String> videoIds = new ArrayList<>(owners.keySet());
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+        for (int i = 0; i < videoIds.size(); i += VIDEOS_BATCH_SIZE) {
+            List<String> batch = videoIds.subList(i, Math.min(i + VIDEOS_BATCH_SIZE, videoIds.size()));
+            batches.add(fetchVideoBatch(batch, owners, statuses, lane));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]));
+    }
+
+    @NotNull
+    private Map<String, StreamSnapshot> collectSnapshots(@NotNull List<String> channelIds, @NotNull Map<String, ChannelStatus> statuses) {
+        Map<String, StreamSnapshot> results = new HashMap<>();
+
+        for (String channelId : channelIds) {
+            ChannelStatus status = statuses.get(channelId);
+
+            if (status == ChannelStatus.INVALID) results.put(channelId, StreamSnapshot.invalid());
+            else if (status == ChannelStatus.UNKNOWN) results.put(channelId, StreamSnapshot.unknown());
+            else results.put(channelId, broadcastRegistry.getSnapshot(channelId));
+        }
+
+        return results;
+    }
+
+    @NotNull
+    private CompletableFuture<Void> discoverBroadcasts(@NotNull String channelId, @NotNull String eventType, @NotNull Map<String, ChannelStatus> statuses,
+                                                       @NotNull RequestLane lane) {
+        String url = String.format("%s/search?part=id&channelId=%s&eventType=%s&type=video&maxResults=%d",
+                API_BASE, channelId, eventType, DISCOVERY_RESULTS);
 
-    private final HttpClient httpClient;
-    private final String apiKey;
-    private final McStreamLink plugin;
+        return send(url, YoutubeEndpoint.SEARCH, lane, reader -> {
+            SEARCH_FIELDS.forEach(reader, "items", item -> {
+                String videoId = item.get("id.videoId");
+                if (videoId != null) broadcastRegistry.track(channelId, videoId);
+            });
+
+            return null;
+        }).thenAccept(response -> {
+            if (response.isSuccess()) return;
+
+            if (isInvalidChannel(response)) {
+                statuses.put(channelId, ChannelStatus.INVALID);
+                return;
+            }
 
-    public YoutubeApiClient(@NotNull McStreamLink plugin, @NotNull String apiKey) {
-        this.plugin = plugin;
-        this.apiKey = apiKey;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
+            // a channel whose search went unanswered was never checked, the registry's last state must not pass for offline
+            statuses.put(channelId, ChannelStatus.UNKNOWN);
+            if (!isThrottled(response)) LoggerUtils.warn("YouTube API error (discovery): {} - {}", response.getStatusCode(), response.getError());
+        }).exceptionally(exception -> {
+            statuses.put(channelId, ChannelStatus.UNKNOWN);
+            LoggerUtils.error(exception.getMessage());
+            return null;
+        });
     }
 
     @NotNull
-    public CompletableFuture<Boolean> isChannelLive(@NotNull String channelUrl) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String channelId = extractChannelId(channelUrl);
-                if (channelId == null) {
-                    LoggerUtils.error("Failed to extract channel ID from URL: " + channelUrl);
-                    return false;
+    private CompletableFuture<Void> fetchVideoBatch(@NotNull List<String> videoIds, @NotNull Map<String, String> owners, @NotNull Map<String, ChannelStatus> statuses,
+                                                    @NotNull RequestLane lane) {
+        String url = String.format("%s/videos?part=snippet,liveStreamingDetails&id=%s&maxResults=%d",
+                API_BASE, String.join(",", videoIds), VIDEOS_BATCH_SIZE);
+
+        return send(url, YoutubeEndpoint.VIDEOS, lane, reader -> {
+            Set<String> returned = new HashSet<>();
+
+            VIDEO_FIELDS.forEach(reader, "items", item -> {
+                String videoId = item.get("id");
+                String channelId = videoId != null ? owners.get(videoId) : null;
+                if (channelId == null) return;
+
+                returned.add(videoId);
+
+                switch (item.getOrDefault("snippet.liveBroadcastContent", "none")) {
+                    case "live" -> broadcastRegistry.setLive(channelId, videoId, getConcurrentViewers(item), getActualStartTime(item), item.get("snippet.title"));
+                    case "upcoming" -> broadcastRegistry.setNotLive(channelId, videoId);
+                    default -> broadcastRegistry.untrack(channelId, videoId);
                 }
+            });
+
+            return returned;
+        }).thenAccept(response -> {
+            if (!response.isSuccess()) {
+                videoIds.forEach(videoId -> statuses.putIfAbsent(owners.get(videoId), ChannelStatus.UNKNOWN));
+                if (!isThrottled(response)) LoggerUtils.warn("YouTube API error (videos): {} - {}", response.getStatusCode(), response.getError());
+                return;
+            }
 
-                return checkIfChannelIsLive(channelId);
-            } catch (Exception exception) {
-                LoggerUtils.error(exception.getMessage());
-                return false;
+            for (String videoId : videoIds) {
+                if (!response.getBody().contains(videoId)) broadcastRegistry.untrack(owners.get(videoId), videoId);
             }
+        }).exceptionally(exception -> {
+            videoIds.forEach(videoId -> statuses.putIfAbsent(owners.get(videoId), ChannelStatus.UNKNOWN));
+            LoggerUtils.error(exception.getMessage());
+            return null;
         });
     }
 
     @Nullable
-    private String extractChannelId(@NotNull String url) throws IOException, InterruptedException {
+    private Instant getActualStartTime(@NotNull Map<String, String> item) {
+        String actualStartTime = item.get("liveStreamingDetails.actualStartTime");
+        return actualStartTime != null ? Instant.parse(actualStartTime) : null;
+    }
+
+    private int getConcurrentViewers(@NotNull Map<String, String> item) {
+        String concurrentViewers = item.get("liveStreamingDetails.concurrentViewers");
+        return concurrentViewers != null ? Integer.parseInt(concurrentViewers) : 0;
+    }
+
+    @NotNull
+    private CompletableFuture<ChannelResolution> extractChannelId(@NotNull String url, @NotNull RequestLane lane) {
         Matcher channelMatcher = CHANNEL_ID_PATTERN.matcher(url);
-        if (channelMatcher.find()) return channelMatcher.group(1);
+        if (channelMatcher.find()) return CompletableFuture.completedFuture(ChannelResolution.resolved(channelMatcher.group(1)));
 
         Matcher usernameMatcher = CHANNEL_USERNAME_PATTERN.matcher(url);
-        if (usernameMatcher.find()) return resolveChannelByHandle(usernameMatcher.group(1));
+        if (usernameMatcher.find()) return resolveChannelByHandle(usernameMatcher.group(1), lane);
 
         Matcher customMatcher = CHANNEL_CUSTOM_PATTERN.matcher(url);
-        if (customMatcher.find()) return resolveChannelByUsername(customMatcher.group(1));
+        if (customMatcher.find()) return resolveChannelByUsername(customMatcher.group(1), lane);
 
         Matcher userMatcher = CHANNEL_USER_PATTERN.matcher(url);
-        if (userMatcher.find()) return resolveChannelByUsername(userMatcher.group(1));
+        if (userMatcher.find()) return resolveChannelByUsername(userMatcher.group(1), lane);
 
-        return null;
+        return CompletableFuture.completedFuture(ChannelResolution.notFound());
     }
 
-    @Nullable
-    private String resolveChannelByHandle(@NotNull String handle) throws IOException, InterruptedException {
+    @NotNull
+    private CompletableFuture<ChannelResolution> resolveChannelByHandle(@NotNull String handle, @NotNull RequestLane lane) {
         String encodedHandle = URLEncoder.encode("@" + handle, StandardCharsets.UTF_8);
-        String url = String.format("%s/channels?part=id&forHandle=%s&key=%s",
-                API_BASE, encodedHandle, apiKey);
+        String url = String.format("%s/channels?part=id&forHandle=%s",
+                API_BASE, encodedHandle);
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .GET()
-                .build();
+        return send(url, YoutubeEndpoint.CHANNELS, lane, this::readFirstChannelId).thenApply(response -> toResolution(response, "handle"));
+    }
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    @NotNull
+    private CompletableFuture<ChannelResolution> resolveChannelByUsername(@NotNull String username, @NotNull RequestLane lane) {
+        String encodedUsername = URLEncoder.encode(username, StandardCharsets.UTF_8);
+        String url = String.format("%s/channels?part=id&forUsername=%s",
+                API_BASE, encodedUsername);
 
-        if (response.statusCode() != 200) {
-            plugin.getLogger().warning("YouTube API hiba (handle): " + response.statusCode());
-            return null;
-        }
+        return send(url, YoutubeEndpoint.CHANNELS, lane, this::readFirstChannelId).thenApply(response -> toResolution(response, "username"));
+    }
 
-        JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
-        JsonArray items = jsonResponse.getAsJsonArray("items");
+    // only an answered lookup without a match is final, outages, quota and key trouble leave the channel for a later retry
+    @NotNull
+    private ChannelResolution toResolution(@NotNull ApiResponse<String> response, @NotNull String lookup) {
+        if (response.isSuccess()) return response.getBody() != null ? ChannelResolution.resolved(response.getBody()) : ChannelResolution.notFound();
+        if (isInvalidChannel(response)) return ChannelResolution.notFound();
 
-        if (items != null && !items.isEmpty()) return items.get(0).getAsJsonObject().get("id").getAsString();
-        return null;
+        if (!isThrottled(response)) LoggerUtils.warn("YouTube API error ({}): {}", lookup, response.getStatusCode());
+        return ChannelResolution.unknown();
     }
 
     @Nullable
-    private String resolveChannelByUsername(@NotNull String username) throws IOException, InterruptedException {
-        String encodedUsername = URLEncoder.encode(username, StandardCharsets.UTF_8);
-        String url = String.format("%s/channels?part=id&forUsername=%s&key=%s",
-                API_BASE, encodedUsername, apiKey);
+    private String readFirstChannelId(@NotNull JsonReader reader) throws IOException {
+        List<String> channelIds = new ArrayList<>();
+        CHANNEL_ID_FIELDS.forEach(reader, "items", item -> {
+            if (item.containsKey("id")) channelIds.add(item.get("id"));
+        });
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .GET()
-                .build();
+        return channelIds.isEmpty() ? null : channelIds.get(0);
+    }
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    @NotNull
+    private <T> CompletableFuture<ApiResponse<T>> send(@NotNull String url, @NotNull YoutubeEndpoint endpoint, @NotNull RequestLane lane, @NotNull JsonDecoder<T> decoder) {
+        return send(url, endpoint, null, lane, decoder);
+    }
 
-        if (response.statusCode() != 200) {
-            plugin.getLogger().warning("YouTube API hiba (username): " + response.statusCode());
-            return null;
-        }
+    @NotNull
+    private <T> CompletableFuture<ApiResponse<T>> send(@NotNull String url, @NotNull YoutubeEndpoint endpoint, @Nullable String etag,
+                                                       @NotNull RequestLane lane, @NotNull JsonDecoder<T> decoder) {
+        YoutubeCredential credential = credentials.select();
+        if (credential == null) return CompletableFuture.failedFuture(new CredentialUnavailableException("YouTube"));
 
-        JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
-        JsonArray items = jsonResponse.getAsJsonArray("items");
+        return send(url, endpoint, etag, lane, decoder, credential).thenCompose(response -> {
+            if (!isThrottled(response) && !isKeyRejected(response)) return CompletableFuture.completedFuture(response);
 
-        if (items != null && !items.isEmpty()) return items.get(0).getAsJsonObject().get("id").getAsString();
-        return null;
+            YoutubeCredential fallback = credentials.select(credential);
+            return fallback != null ? send(url, endpoint, etag, lane, decoder, fallback) : CompletableFuture.completedFuture(response);
+        });
     }
 
-    private boolean checkIfChannelIsLive(@NotNull String channelId) throws IOException, InterruptedException {
-        String url = String.format("%s/search?part=snippet&channelId=%s&eventType=live&type=video&key=%s",
-                API_BASE, channelId, apiKey);
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .GET()
-                .build();
+    @NotNull
+    private <T> CompletableFuture<ApiResponse<T>> send(@NotNull String url, @NotNull YoutubeEndpoint endpoint, @Nullable String etag,
+                                                       @NotNull RequestLane lane, @NotNull JsonDecoder<T> decoder, @NotNull YoutubeCredential credential) {
+        HttpRequest.Builder builder = transport.request(url + "&key=" + credential.getApiKey()).GET();
+        if (etag != null) builder.header("If-None-Match", etag);
+
+        credential.record(endpoint);
+
+        return gateway.send(builder.build(), lane, decoder, credential.getRateLimiter()).thenApply(response -> {
+            if (response.getStatusCode() == 403) {
+                String reason = getErrorReason(response.getError());
+                if (reason != null && reason.contains("quota")) credential.markExhausted();
+                if (reason != null && reason.contains("rateLimit")) credential.getRateLimiter().throttle(response.getHeaders(), THROTTLE_FALLBACK);
+            }
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.getStatusCode() == 429) credential.getRateLimiter().throttle(response.getHeaders(), THROTTLE_FALLBACK);
+            if (isKeyRejected(response)) credential.markRevoked();
 
-        if (response.statusCode() != 200) {
-            plugin.getLogger().warning("YouTube API hiba (live check): " + response.statusCode() + " - " + response.body());
-            return false;
-        }
-
-        JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
+            return response;
+        });
+    }
 
-        if (jsonResponse.has("error")) {
-            JsonObject error = jsonResponse.getAsJsonObject("error");
-            plugin.getLogger().severe("YouTube API hiba: " + error.get("message").getAsString());
-            return false;
-        }
+    private boolean isThrottled(@NotNull ApiResponse<?> response) {
+        if (response.getStatusCode() == 429) return true;
+        if (response.getStatusCode() != 403) return false;
 
-        JsonArray items = jsonResponse.getAsJsonArray("items");
-        return items != null && !items.isEmpty();
+        String reason = getErrorReason(response.getError());
+        return reason != null && (reason.contains("quota") || reason.contains("rateLimit"));
     }
 
-    public CompletableFuture<Integer> getSubscriberCount(@NotNull String channelUrl) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String channelId = extractChannelId(channelUrl);
-                if (channelId == null) return 0;
+    private boolean isKeyRejected(@NotNull ApiResponse<?> response) {
+        int statusCode = response.getStatusCode();
+        if (statusCode != 400 && statusCode != 403) return false;
 
-                String url = String.format("%s/channels?part=statistics&id=%s&key=%s",
-                        API_BASE, channelId, apiKey);
+        String reason = getErrorReason(response.getError());
+        if (reason != null && KEY_ERROR_REASONS.contains(reason)) return true;
 
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .GET()
-                        .build();
+        String detail = getErrorDetailReason(response.getError());
+        return detail != null && detail.startsWith("API_KEY_");
+    }
+
+    private boolean isInvalidChannel(@NotNull ApiResponse<?> response) {
+        if (isKeyRejected(response)) return false;
 
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        int statusCode = response.getStatusCode();
+        if (statusCode == 400 || statusCode == 404) return true;
+        if (statusCode != 403) return false;
 
-                if (response.statusCode() != 200) return 0;
+        String reason = getErrorReason(response.getError());
+        return reason != null && !reason.contains("quota") && !reason.contains("rateLimit");
+    }
 
-                JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
-                JsonArray items = jsonResponse.getAsJsonArray("items");
+    @Nullable
+    private String getErrorDetailReason(@Nullable String body) {
+        if (body == null) return null;
 
-                if (items == null || items.isEmpty()) return 0;
+        try {
+            JsonObject error = JsonParser.parseString(body).getAsJsonObject().getAsJsonObject("error");
+            if (error == null) return null;
 
-                JsonObject statistics = items.get(0).getAsJsonObject()
-                        .getAsJsonObject("statistics");
+            JsonArray details = error.getAsJsonArray("details");
+            if (details == null) return null;
 
-                return statistics.get("subscriberCount").getAsInt();
-            } catch (Exception exception) {
-                LoggerUtils.error(exception.getMessage());
-                return 0;
+            for (JsonElement detail : details) {
+                JsonObject info = detail.getAsJsonObject();
+                if (info.has("reason")) return info.get("reason").getAsString();
             }
-        });
+
+            return null;
+        } catch (Exception exception) {
+            return null;
+        }
     }
 
-    public CompletableFuture<Integer> getCurrentViewerCount(@NotNull String channelUrl) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String channelId = extractChannelId(channelUrl);
-                if (channelId == null) return 0;
+    @Nullable
+    private String getErrorReason(@Nullable String body) {
+        if (body == null) return null;
 
-                String url = String.format("%s/search?part=snippet&channelId=%s&eventType=live&type=video&key=%s",
-                        API_BASE, channelId, apiKey);
+        try {
+            JsonObject error = JsonParser.parseString(body).getAsJsonObject().getAsJsonObject("error");
+            if (error == null) return null;
 
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .GET()
-                        .build();
+            JsonArray errors = error.getAsJsonArray("errors");
+            if (errors == null || errors.isEmpty()) return null;
 
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return errors.get(0).getAsJsonObject().get("reason").getAsString();
+        } catch (Exception exception) {
+            return null;
+        }
+    }
 
-                if (response.statusCode() != 200) return 0;
+    @NotNull
+    @Override
+    public CompletableFuture<Map<String, Integer>> fetchFollowerCounts(@NotNull Collection<String> channelIds, @NotNull RequestLane lane) {
+        if (channelIds.isEmpty()) return CompletableFuture.completedFuture(Collections.emptyMap());
 
-                JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
-                JsonArray items = jsonResponse.getAsJsonArray("items");
+        List<String> ids = new ArrayList<>(new TreeSet<>(channelIds));
+        Map<String, Integer> results = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
 
-                if (items == null || items.isEmpty()) return 0;
+        for (int i = 0; i < ids.size(); i += CHANNELS_BATCH_SIZE) {
+            List<String> batch = ids.subList(i, Math.min(i + CHANNELS_BATCH_SIZE, ids.size()));
+            batches.add(fetchSubscriberBatch(batch, results, lane));
+        }
 
-                String videoId = items.get(0).getAsJsonObject().getAsJsonObject("id")
-                        .get("videoId").getAsString();
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).thenApply(v -> results);
+    }
 
-                String videoUrl = String.format("%s/videos?part=liveStreamingDetails&id=%s&key=%s",
-                        API_BASE, videoId, apiKey);
+    @NotNull
+    private CompletableFuture<Void> fetchSubscriberBatch(@NotNull List<String> channelIds, @NotNull Map<String, Integer> results, @NotNull RequestLane lane) {
+        String url = String.format("%s/channels?part=statistics&id=%s&maxResults=%d",
+                API_BASE, String.join(",", channelIds), CHANNELS_BATCH_SIZE);
 
-                HttpRequest videoRequest = HttpRequest.newBuilder()
-                        .uri(URI.create(videoUrl))
-                        .GET()
-                        .build();
+        CachedResponse<Map<String, Integer>> cached = statisticsCache.get(url);
 
-                HttpResponse<String> videoResponse = httpClient.send(videoRequest, HttpResponse.BodyHandlers.ofString());
+        return send(url, YoutubeEndpoint.CHANNELS, cached != null ? cached.getEtag() : null, lane, reader -> {
+            Map<String, Integer> counts = new HashMap<>();
 
-                if (videoResponse.statusCode() != 200) return 0;
+            STATISTICS_FIELDS.forEach(reader, "items", item -> {
+                String channelId = item.get("id");
+                String subscriberCount = item.get("statistics.subscriberCount");
 
-                JsonObject videoJson = JsonParser.parseString(videoResponse.body()).getAsJsonObject();
-                JsonArray videoItems = videoJson.getAsJsonArray("items");
+                if (channelId != null && subscriberCount != null) counts.put(channelId, Integer.parseInt(subscriberCount));
+            });
 
-                if (videoItems == null || videoItems.isEmpty()) return 0;
+            return counts;
+        }).thenAccept(response -> {
+            if (response.getStatusCode() == 304 && cached != null) {
+                results.putAll(cached.getValue());
+                return;
+            }
 
-                JsonObject liveDetails = videoItems.get(0).getAsJsonObject()
-                        .getAsJsonObject("liveStreamingDetails");
+            if (!response.isSuccess()) {
+                if (!isThrottled(response)) LoggerUtils.warn("YouTube API error (statistics): {}", response.getStatusCode());
+                return;
+            }
 
-                if (liveDetails == null || !liveDetails.has("concurrentViewers")) return 0;
+            results.putAll(response.getBody());
 
-                return liveDetails.get("concurrentViewers").getAsInt();
-            } catch (Exception exception) {
-                LoggerUtils.error(exception.getMessage());
-                return 0;
-            }
+            String etag = response.getHeaders().firstValue("ETag").orElse(null);
+            if (etag != null) statisticsCache.put(url, etag, response.getBody());
+            else statisticsCache.remove(url);
+        }).exceptionally(exception -> {
+            LoggerUtils.error(exception.getMessage());
+            return null;
         });
     }
 }
@@ -0,0 +1,179 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.data.StreamSnapshot;
+import com.mongenscave.mcstreamlink.data.TrackedChannel;
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.managers.MediaDataManager;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class YoutubeBroadcastRegistry {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String DATA_FILE = "youtube-broadcasts.json";
+    private static final long SAVE_DELAY_TICKS = 200L;
+
+    private final McStreamLink plugin;
+    private final File dataFile;
+    private final Map<String, TrackedChannel> channels;
+    private final AtomicBoolean saveScheduled;
+
+    public YoutubeBroadcastRegistry(@NotNull McStreamLink plugin) {
+        this.plugin = plugin;
+        this.dataFile = new File(plugin.getDataFolder(), DATA_FILE);
+        this.channels = new HashMap<>();
+        this.saveScheduled = new AtomicBoolean(false);
+
+        loadData();
+    }
+
+    @NotNull
+    public synchronized Map<String, String> getTrackedVideos(@NotNull Collection<String> channelIds) {
+        Map<String, String> owners = new HashMap<>();
+
+        for (String channelId : channelIds) {
+            TrackedChannel channel = channels.get(channelId);
+            if (channel != null) channel.getVideoIds().forEach(videoId -> owners.put(videoId, channelId));
+        }
+
+        return owners;
+    }
+
+    public synchronized boolean isDiscoveryDue(@NotNull String channelId, long intervalMillis) {
+        TrackedChannel channel = channels.get(channelId);
+        if (channel == null) return true;
+        if (channel.getLiveVideoId() != null) return false;
+
+        return System.currentTimeMillis() - channel.getLastDiscovery() >= intervalMillis;
+    }
+
+    public synchronized int startDiscovery(@NotNull String channelId) {
+        TrackedChannel channel = channels.computeIfAbsent(channelId, k -> new TrackedChannel());
+        int discoveries = channel.getDiscoveries();
+
+        channel.setDiscoveries(discoveries + 1);
+        channel.setLastDiscovery(System.currentTimeMillis());
+        scheduleSave();
+
+        return discoveries;
+    }
+
+    public synchronized void track(@NotNull String channelId, @NotNull String videoId) {
+        if (channels.computeIfAbsent(channelId, k -> new TrackedChannel()).getVideoIds().add(videoId)) scheduleSave();
+    }
+
+    public synchronized void untrack(@NotNull String channelId, @NotNull String videoId) {
+        TrackedChannel channel = channels.get(channelId);
+        if (channel == null) return;
+
+        channel.getVideoIds().remove(videoId);
+
+        if (videoId.equals(channel.getLiveVideoId())) {
+            channel.setLiveVideoId(null);
+            channel.setViewers(0);
+        }
+
+        scheduleSave();
+    }
+
+    public synchronized void setLive(@NotNull String channelId, @NotNull String videoId, int viewers, @Nullable Instant startedAt, @Nullable String title) {
+        TrackedChannel channel = channels.computeIfAbsent(channelId, k -> new TrackedChannel());
+
+        channel.setLiveVideoId(videoId);
+        channel.setViewers(viewers);
+        channel.setStartedAt(startedAt != null ? startedAt.toEpochMilli() : 0L);
+        channel.setTitle(title);
+    }
+
+    public synchronized void setNotLive(@NotNull String channelId, @NotNull String videoId) {
+        TrackedChannel channel = channels.get(channelId);
+
+        if (channel != null && videoId.equals(channel.getLiveVideoId())) {
+            channel.setLiveVideoId(null);
+            channel.setViewers(0);
+        }
+    }
+
+    @NotNull
+    public synchronized StreamSnapshot getSnapshot(@NotNull String channelId) {
+        TrackedChannel channel = channels.get(channelId);
+        if (channel == null || channel.getLiveVideoId() == null) return StreamSnapshot.offline();
+
+        Instant startedAt = channel.getStartedAt() > 0L ? Instant.ofEpochMilli(channel.getStartedAt()) : null;
+        return StreamSnapshot.live(channel.getViewers(), startedAt, channel.getTitle());
+    }
+
+    private void loadData() {
+        if (!dataFile.exists()) return;
+
+        try (Reader reader = new FileReader(dataFile)) {
+            Type type = new TypeToken<Map<String, TrackedChannel>>(){}.getType();
+            Map<String, TrackedChannel> loaded = GSON.fromJson(reader, type);
+
+            if (loaded != null) {
+                synchronized (this) {
+                    channels.putAll(loaded);
+                }
+            }
+        } catch (Exception exception) {
+            LoggerUtils.error(exception.getMessage());
+        }
+    }
+
+    private void saveData() {
+        saveScheduled.set(false);
+
+        String json;
+
+        synchronized (this) {
+            pruneUntracked();
+            json = GSON.toJson(channels);
+        }
+
+        try (Writer writer = new FileWriter(dataFile)) {
+            writer.write(json);
+        } catch (IOException exception) {
+            LoggerUtils.error(exception.getMessage());
+        }
+    }
+
+    // unregistered channels would otherwise keep their videos in the file forever
+    private void pruneUntracked() {
+        MediaDataManager dataManager = plugin.getMediaDataManager();
+        if (dataManager == null) return;
+
+        Set<String> tracked = new HashSet<>();
+        dataManager.getTrackedMedia().forEach(data -> {
+            if (data.getPlatform() == PlatformType.YOUTUBE) tracked.add(data.getChannelId());
+        });
+
+        channels.keySet().retainAll(tracked);
+    }
+
+    private void scheduleSave() {
+        if (saveScheduled.compareAndSet(false, true)) plugin.getScheduler().runTaskLaterAsynchronously(this::saveData, SAVE_DELAY_TICKS);
+    }
+
+    public void save() {
+        saveData();
+    }
+}
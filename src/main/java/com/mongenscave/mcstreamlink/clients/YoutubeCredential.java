@@ -0,0 +1,54 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.mongenscave.mcstreamlink.identifiers.YoutubeEndpoint;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class YoutubeCredential extends ApiCredential {
+    private static final int FINGERPRINT_BYTES = 6;
+
+    @Getter private final String apiKey;
+    @Getter private final String fingerprint;
+    private final YoutubeQuotaTracker quotaTracker;
+
+    public YoutubeCredential(@NotNull String apiKey, @NotNull YoutubeQuotaTracker quotaTracker, int requestsPerMinute) {
+        super("YouTube", apiKey, requestsPerMinute);
+        this.apiKey = apiKey;
+        this.fingerprint = fingerprint(apiKey);
+        this.quotaTracker = quotaTracker;
+    }
+
+    public void record(@NotNull YoutubeEndpoint endpoint) {
+        quotaTracker.record(fingerprint, endpoint);
+    }
+
+    public void markExhausted() {
+        if (quotaTracker.markExhausted(fingerprint)) LoggerUtils.warn("YouTube API key {} quota exhausted, it resumes after the Pacific midnight reset", getLabel());
+    }
+
+    @Override
+    public double getHeadroom() {
+        return quotaTracker.getRemaining(fingerprint);
+    }
+
+    @Override
+    public boolean isExhausted() {
+        return quotaTracker.getRemaining(fingerprint) <= 0;
+    }
+
+    @NotNull
+    public static String fingerprint(@NotNull String apiKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, FINGERPRINT_BYTES);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.data.QuotaUsage;
+import com.mongenscave.mcstreamlink.identifiers.YoutubeEndpoint;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class YoutubeQuotaTracker {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String DATA_FILE = "youtube-quota.json";
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+    private static final long SAVE_DELAY_TICKS = 200L;
+
+    private final McStreamLink plugin;
+    private final File dataFile;
+    private final AtomicBoolean saveScheduled;
+    private final Map<String, Long> used;
+    private final Set<String> exhausted;
+
+    private LocalDate day;
+
+    public YoutubeQuotaTracker(@NotNull McStreamLink plugin, @NotNull Collection<String> keys) {
+        this.plugin = plugin;
+        this.dataFile = new File(plugin.getDataFolder(), DATA_FILE);
+        this.saveScheduled = new AtomicBoolean(false);
+        this.used = new LinkedHashMap<>();
+        this.exhausted = new HashSet<>();
+        this.day = LocalDate.now(QUOTA_ZONE);
+
+        keys.forEach(key -> used.put(key, 0L));
+        loadData();
+    }
+
+    public void record(@NotNull String key, @NotNull YoutubeEndpoint endpoint) {
+        synchronized (this) {
+            rollOver();
+            used.merge(key, (long) endpoint.getCost(), Long::sum);
+        }
+
+        scheduleSave();
+    }
+
+    public boolean markExhausted(@NotNull String key) {
+        boolean newlyExhausted;
+
+        synchronized (this) {
+            rollOver();
+            used.put(key, Math.max(used.getOrDefault(key, 0L), getKeyBudget()));
+            newlyExhausted = exhausted.add(key);
+        }
+
+        scheduleSave();
+        return newlyExhausted;
+    }
+
+    public synchronized long getUsed() {
+        rollOver();
+        return used.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public synchronized long getRemaining(@NotNull String key) {
+        rollOver();
+
+        Long keyUsed = used.get(key);
+        return keyUsed != null ? Math.max(0L, getKeyBudget() - keyUsed) : 0L;
+    }
+
+    public synchronized long getRemaining() {
+        rollOver();
+        return used.values().stream().mapToLong(keyUsed -> Math.max(0L, getKeyBudget() - keyUsed)).sum();
+    }
+
+    public long getKeyBudget() {
+        return ConfigKeys.API_YOUTUBE_DAILY_QUOTA.getInt();
+    }
+
+    @NotNull
+    public Duration getTimeUntilReset() {
+        ZonedDateTime now = ZonedDateTime.now(QUOTA_ZONE);
+        ZonedDateTime reset = now.toLocalDate().plusDays(1).atStartOfDay(QUOTA_ZONE);
+
+        return Duration.between(now, reset);
+    }
+
+    public long getPollInterval(long cycleCost, long baseIntervalSeconds) {
+        if (cycleCost <= 0) return baseIntervalSeconds;
+
+        long secondsUntilReset = Math.max(1L, getTimeUntilReset().toSeconds());
+        long affordableCycles = getRemaining() / cycleCost;
+
+        if (affordableCycles <= 0) return secondsUntilReset;
+        return Math.max(baseIntervalSeconds, secondsUntilReset / affordableCycles);
+    }
+
+    private void rollOver() {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (today.equals(day)) return;
+
+        day = today;
+        used.replaceAll((key, keyUsed) -> 0L);
+        exhausted.clear();
+    }
+
+    private void loadData() {
+        if (!dataFile.exists()) return;
+
+        try (Reader reader = new FileReader(dataFile)) {
+            JsonElement root = JsonParser.parseReader(reader);
+            if (root == null || !root.isJsonObject()) return;
+
+            Map<String, QuotaUsage> loaded = new HashMap<>();
+
+            // files written before multiple keys were supported hold a single usage record
+            if (root.getAsJsonObject().has("day")) {
+                if (!used.isEmpty()) loaded.put(used.keySet().iterator().next(), GSON.fromJson(root, QuotaUsage.class));
+            } else {
+                Type type = new TypeToken<Map<String, QuotaUsage>>(){}.getType();
+                loaded = GSON.fromJson(root, type);
+            }
+
+            loaded.forEach((key, usage) -> {
+                if (used.containsKey(key) && usage != null && usage.getDay() != null && LocalDate.parse(usage.getDay()).equals(day)) used.put(key, usage.getUsed());
+            });
+        } catch (Exception exception) {
+            LoggerUtils.error(exception.getMessage());
+        }
+    }
+
+    private void saveData() {
+        saveScheduled.set(false);
+
+        Map<String, QuotaUsage> usages = new LinkedHashMap<>();
+
+        synchronized (this) {
+            rollOver();
+            used.forEach((key, keyUsed) -> usages.put(key, new QuotaUsage(day.toString(), keyUsed)));
+        }
+
+        try (Writer writer = new FileWriter(dataFile)) {
+            GSON.toJson(usages, writer);
+        } catch (IOException exception) {
+            LoggerUtils.error(exception.getMessage());
+        }
+    }
+
+    private void scheduleSave() {
+        if (saveScheduled.compareAndSet(false, true)) plugin.getScheduler().runTaskLaterAsynchronously(this::saveData, SAVE_DELAY_TICKS);
+    }
+
+    public void save() {
+        saveData();
+    }
+}
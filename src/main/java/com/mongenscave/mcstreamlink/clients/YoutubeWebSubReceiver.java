@@ -0,0 +1,289 @@
+package com.mongenscave.mcstreamlink.clients;
+
+import com.github.Anon8281.universalScheduler.scheduling.tasks.MyScheduledTask;
+import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class YoutubeWebSubReceiver {
+    private static final String TOPIC_PREFIX = "https://www.youtube.com/xml/feeds/videos.xml?channel_id=";
+    private static final Pattern ENTRY_PATTERN = Pattern.compile("<entry>(.*?)</entry>", Pattern.DOTALL);
+    private static final Pattern VIDEO_ID_PATTERN = Pattern.compile("<yt:videoId>([^<]+)</yt:videoId>");
+    private static final Pattern CHANNEL_ID_PATTERN = Pattern.compile("<yt:channelId>([^<]+)</yt:channelId>");
+    private static final long RENEW_MARGIN_MILLIS = TimeUnit.HOURS.toMillis(12);
+    private static final long RETRY_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long RENEW_TICKS = 1200L;
+    private static final int MAX_BODY_BYTES = 1 << 20;
+
+    private final McStreamLink plugin;
+    private final HttpTransport transport;
+    private final Set<String> wanted;
+    private final Map<String, Long> leases;
+    private final Map<String, Long> attempts;
+
+    private volatile BiConsumer<String, String> listener;
+    private String secret;
+    private HttpServer server;
+    private MyScheduledTask renewTask;
+
+    public YoutubeWebSubReceiver(@NotNull McStreamLink plugin, @NotNull HttpTransport transport) {
+        this.plugin = plugin;
+        this.transport = transport;
+        this.wanted = ConcurrentHashMap.newKeySet();
+        this.leases = new ConcurrentHashMap<>();
+        this.attempts = new ConcurrentHashMap<>();
+    }
+
+    public void start(@NotNull BiConsumer<String, String> listener) {
+        if (!ConfigKeys.API_YOUTUBE_WEBSUB_ENABLED.getBoolean()) return;
+
+        String callbackUrl = ConfigKeys.API_YOUTUBE_WEBSUB_CALLBACK_URL.getString().trim();
+        if (callbackUrl.isEmpty()) {
+            LoggerUtils.warn("YouTube WebSub needs a public callback-url, staying on search discovery");
+            return;
+        }
+
+        String configuredSecret = ConfigKeys.API_YOUTUBE_WEBSUB_SECRET.getString().trim();
+        secret = configuredSecret.isEmpty() ? randomSecret() : configuredSecret;
+
+        String path = URI.create(callbackUrl).getPath();
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(ConfigKeys.API_YOUTUBE_WEBSUB_PORT.getInt()), 0);
+            server.createContext(path == null || path.isEmpty() ? "/" : path, this::handle);
+            server.start();
+        } catch (IOException exception) {
+            LoggerUtils.error("YouTube WebSub receiver could not start: {}", exception.getMessage());
+            server = null;
+            return;
+        }
+
+        this.listener = listener;
+        renewTask = plugin.getScheduler().runTaskTimerAsynchronously(this::renewLeases, RENEW_TICKS, RENEW_TICKS);
+        LoggerUtils.info("YouTube WebSub receiver listening on port {}", ConfigKeys.API_YOUTUBE_WEBSUB_PORT.getInt());
+    }
+
+    public void stop() {
+        listener = null;
+        leases.clear();
+
+        if (renewTask != null && !renewTask.isCancelled()) renewTask.cancel();
+        if (server != null) server.stop(0);
+
+        server = null;
+    }
+
+    public boolean isSubscribed(@NotNull String channelId) {
+        Long expiry = leases.get(channelId);
+        return listener != null && expiry != null && expiry > System.currentTimeMillis();
+    }
+
+    public void track(@NotNull Collection<String> channelIds) {
+        if (listener == null) return;
+
+        wanted.addAll(channelIds);
+        wanted.retainAll(channelIds);
+        attempts.keySet().retainAll(wanted);
+
+        renewLeases();
+    }
+
+    private void renewLeases() {
+        long now = System.currentTimeMillis();
+
+        for (String channelId : wanted) {
+            Long expiry = leases.get(channelId);
+            if (expiry != null && expiry - now > RENEW_MARGIN_MILLIS) continue;
+
+            Long lastAttempt = attempts.get(channelId);
+            if (lastAttempt != null && now - lastAttempt < RETRY_INTERVAL_MILLIS) continue;
+
+            attempts.put(channelId, now);
+            subscribe(channelId);
+        }
+    }
+
+    private void subscribe(@NotNull String channelId) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("hub.callback", ConfigKeys.API_YOUTUBE_WEBSUB_CALLBACK_URL.getString().trim());
+        form.put("hub.topic", TOPIC_PREFIX + channelId);
+        form.put("hub.verify", "async");
+        form.put("hub.mode", "subscribe");
+        form.put("hub.lease_seconds", String.valueOf(ConfigKeys.API_YOUTUBE_WEBSUB_LEASE_SECONDS.getInt()));
+        form.put("hub.secret", secret);
+
+        String body = form.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+
+        HttpRequest request = transport.request(ConfigKeys.API_YOUTUBE_WEBSUB_HUB_URL.getString())
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        transport.sendAsync(request, reader -> null).thenAccept(response -> {
+            if (!response.isSuccess()) LoggerUtils.warn("YouTube WebSub subscription for {} failed: {}", channelId, response.getStatusCode());
+        }).exceptionally(exception -> {
+            LoggerUtils.error(exception.getMessage());
+            return null;
+        });
+    }
+
+    private void handle(@NotNull HttpExchange exchange) throws IOException {
+        try (exchange) {
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> handleVerification(exchange);
+                case "POST" -> handleNotification(exchange);
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        } catch (RuntimeException exception) {
+            LoggerUtils.error("YouTube WebSub request could not be handled: {}", exception.getMessage());
+        }
+    }
+
+    private void handleVerification(@NotNull HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String mode = query.getOrDefault("hub.mode", "");
+        String topic = query.getOrDefault("hub.topic", "");
+        String challenge = query.get("hub.challenge");
+        String channelId = topic.startsWith(TOPIC_PREFIX) ? topic.substring(TOPIC_PREFIX.length()) : null;
+
+        if (mode.equals("denied")) {
+            LoggerUtils.warn("YouTube WebSub hub denied {}: {}", topic, query.getOrDefault("hub.reason", "no reason"));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+
+        boolean accepted = channelId != null && challenge != null && switch (mode) {
+            case "subscribe" -> wanted.contains(channelId);
+            case "unsubscribe" -> !wanted.contains(channelId);
+            default -> false;
+        };
+
+        if (!accepted) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+
+        if (mode.equals("subscribe")) {
+            long leaseSeconds = parseLong(query.get("hub.lease_seconds"), ConfigKeys.API_YOUTUBE_WEBSUB_LEASE_SECONDS.getInt());
+            leases.put(channelId, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(leaseSeconds));
+        } else {
+            leases.remove(channelId);
+        }
+
+        byte[] response = challenge.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, response.length);
+
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(response);
+        }
+    }
+
+    private void handleNotification(@NotNull HttpExchange exchange) throws IOException {
+        byte[] body;
+
+        try (InputStream input = exchange.getRequestBody()) {
+            body = input.readNBytes(MAX_BODY_BYTES);
+        }
+
+        // the hub expects a 2xx even for payloads we refuse, otherwise it keeps retrying them
+        exchange.sendResponseHeaders(204, -1);
+
+        if (!isSigned(body, exchange.getRequestHeaders().getFirst("X-Hub-Signature"))) {
+            LoggerUtils.warn("YouTube WebSub notification with an invalid signature ignored");
+            return;
+        }
+
+        BiConsumer<String, String> callback = listener;
+        if (callback == null) return;
+
+        Matcher entries = ENTRY_PATTERN.matcher(new String(body, StandardCharsets.UTF_8));
+
+        while (entries.find()) {
+            Matcher videoId = VIDEO_ID_PATTERN.matcher(entries.group(1));
+            Matcher channelId = CHANNEL_ID_PATTERN.matcher(entries.group(1));
+
+            if (videoId.find() && channelId.find() && wanted.contains(channelId.group(1))) callback.accept(channelId.group(1), videoId.group(1));
+        }
+    }
+
+    private boolean isSigned(byte[] body, @Nullable String signature) {
+        if (signature == null || !signature.startsWith("sha1=")) return false;
+
+        try {
+            Mac mac = Mac.getInstance("HmacSHA1");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+
+            byte[] expected = mac.doFinal(body);
+            byte[] actual = HexFormat.of().parseHex(signature.substring("sha1=".length()));
+
+            return MessageDigest.isEqual(expected, actual);
+        } catch (GeneralSecurityException | IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    @NotNull
+    private static Map<String, String> parseQuery(@Nullable String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator <= 0) continue;
+
+            query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+
+        return query;
+    }
+
+    private static long parseLong(@Nullable String value, long fallback) {
+        try {
+            return value != null ? Long.parseLong(value) : fallback;
+        } catch (NumberFormatException exception) {
+            return fallback;
+        }
+    }
+
+    @NotNull
+    private static String randomSecret() {
+        byte[] bytes = new byte[24];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -4,11 +4,22 @@ import com.mongenscave.mcstreamlink.McStreamLink;
 import com.mongenscave.mcstreamlink.annotations.Media;
 import com.mongenscave.mcstreamlink.annotations.Milestone;
 import com.mongenscave.mcstreamlink.annotations.MilestoneCommand;
+import com.mongenscave.mcstreamlink.clients.ApiCredential;
+import com.mongenscave.mcstreamlink.clients.HttpTransport;
+import com.mongenscave.mcstreamlink.clients.PlatformGateway;
+import com.mongenscave.mcstreamlink.clients.StreamPlatform;
+import com.mongenscave.mcstreamlink.data.ChannelHealth;
+import com.mongenscave.mcstreamlink.data.ChannelResolution;
+import com.mongenscave.mcstreamlink.data.PlayerMediaData;
 import com.mongenscave.mcstreamlink.identifiers.MilestoneType;
 import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.identifiers.RequestLane;
+import com.mongenscave.mcstreamlink.identifiers.ResolveStatus;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
 import com.mongenscave.mcstreamlink.identifiers.keys.MessageKeys;
 import com.mongenscave.mcstreamlink.managers.MediaDataManager;
 import com.mongenscave.mcstreamlink.managers.MilestoneManager;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -17,10 +28,21 @@ import revxrsal.commands.annotation.Subcommand;
 import revxrsal.commands.bukkit.annotation.CommandPermission;
 import revxrsal.commands.orphan.OrphanCommand;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 public class CommandLive implements OrphanCommand {
     private static final McStreamLink plugin = McStreamLink.getInstance();
+    // read into the http client and the credential pools at startup, a reload cannot swap them under in-flight requests
+    private static final List<ConfigKeys> RESTART_ONLY_KEYS = List.of(
+            ConfigKeys.HTTP_USER_AGENT, ConfigKeys.HTTP_CONNECT_TIMEOUT, ConfigKeys.HTTP_REQUEST_TIMEOUT, ConfigKeys.HTTP_KEEP_ALIVE, ConfigKeys.HTTP_THREADS,
+            ConfigKeys.API_YOUTUBE_API_KEY, ConfigKeys.API_YOUTUBE_API_KEYS, ConfigKeys.API_YOUTUBE_REQUESTS_PER_MINUTE,
+            ConfigKeys.API_TWITCH_CLIENT_ID, ConfigKeys.API_TWITCH_CLIENT_SECRET, ConfigKeys.API_TWITCH_APPS, ConfigKeys.API_TWITCH_REQUESTS_PER_MINUTE);
     private final MediaDataManager dataManager;
     private final MilestoneManager milestoneManager;
 
@@ -32,10 +54,22 @@ public class CommandLive implements OrphanCommand {
     @Subcommand("reload")
     @CommandPermission("mcislive.reload")
     public void reload(@NotNull CommandSender sender) {
+        Map<ConfigKeys, Object> previous = new EnumMap<>(ConfigKeys.class);
+        RESTART_ONLY_KEYS.forEach(key -> previous.put(key, plugin.getConfiguration().get(key.getPath())));
+
         plugin.getConfiguration().reload();
         plugin.getLanguage().reload();
         dataManager.reload();
+        plugin.getFollowerCountService().reload();
+        plugin.getLiveCheckService().reload();
         sender.sendMessage(MessageKeys.RELOAD.getMessage());
+
+        String changed = RESTART_ONLY_KEYS.stream()
+                .filter(key -> !Objects.equals(previous.get(key), plugin.getConfiguration().get(key.getPath())))
+                .map(ConfigKeys::getPath)
+                .collect(Collectors.joining(", "));
+
+        if (!changed.isEmpty()) sender.sendMessage(MessageKeys.RELOAD_RESTART_REQUIRED.getMessage().replace("{settings}", changed));
     }
 
     @Subcommand("media add")
@@ -46,9 +80,23 @@ public class CommandLive implements OrphanCommand {
             return;
         }
 
-        plugin.getScheduler().runTaskAsynchronously(() -> {
-            dataManager.addOrUpdateMedia(target.getUniqueId(), platform, channelUrl);
-            plugin.getScheduler().runTask(() -> sender.sendMessage(MessageKeys.SUCCESS_ADD.getMessage()));
+        resolveChannelId(platform, channelUrl).exceptionally(exception -> {
+            LoggerUtils.error(exception.getMessage());
+            return ChannelResolution.unknown();
+        }).thenAccept(resolution -> {
+            MessageKeys reply = switch (resolution.getStatus()) {
+                case RESOLVED -> MessageKeys.SUCCESS_ADD;
+                case NOT_FOUND -> MessageKeys.CHANNEL_NOT_FOUND;
+                case UNKNOWN -> MessageKeys.SUCCESS_ADD_PENDING;
+            };
+
+            // a lookup that could not be answered keeps the registration, the live checker resolves the id once the API is back
+            if (resolution.getStatus() != ResolveStatus.NOT_FOUND) dataManager.addOrUpdateMedia(target.getUniqueId(), platform, channelUrl, resolution.getChannelId());
+            plugin.getScheduler().runTask(() -> sender.sendMessage(reply.getMessage()));
+        }).exceptionally(exception -> {
+            LoggerUtils.error(exception.getMessage());
+            plugin.getScheduler().runTask(() -> sender.sendMessage(MessageKeys.ADD_FAILED.getMessage()));
+            return null;
         });
     }
 
@@ -105,10 +153,96 @@ public class CommandLive implements OrphanCommand {
         });
     }
 
+    @NotNull
+    private CompletableFuture<ChannelResolution> resolveChannelId(@NotNull PlatformType platform, @NotNull String channelUrl) {
+        StreamPlatform provider = plugin.getPlatforms().get(platform);
+        if (provider == null) return CompletableFuture.completedFuture(ChannelResolution.unknown());
+
+        return provider.resolveChannelIds(List.of(channelUrl), RequestLane.INTERACTIVE)
+                .thenApply(resolved -> resolved.getOrDefault(channelUrl, ChannelResolution.unknown()));
+    }
+
+    @Subcommand("quarantine list")
+    @CommandPermission("mcislive.quarantine")
+    public void quarantineList(@NotNull CommandSender sender) {
+        List<ChannelHealth> quarantined = plugin.getChannelHealthManager().getQuarantined();
+
+        if (quarantined.isEmpty()) {
+            sender.sendMessage(MessageKeys.QUARANTINE_EMPTY.getMessage());
+            return;
+        }
+
+        sender.sendMessage(MessageKeys.QUARANTINE_HEADER.getMessage());
+
+        for (ChannelHealth health : quarantined) {
+            sender.sendMessage(MessageKeys.QUARANTINE_ENTRY.getMessage()
+                    .replace("{platform}", health.getPlatform().getFormatted())
+                    .replace("{channel}", health.getChannelUrl())
+                    .replace("{failures}", String.valueOf(health.getFailures()))
+                    .replace("{reason}", String.valueOf(health.getLastError())));
+        }
+    }
+
+    @Subcommand("quarantine release")
+    @CommandPermission("mcislive.quarantine")
+    public void quarantineRelease(@NotNull CommandSender sender, @NotNull @Media OfflinePlayer target, @NotNull PlatformType platform) {
+        PlayerMediaData data = dataManager.getMediaData(target.getUniqueId(), platform);
+
+        if (data == null) {
+            sender.sendMessage(MessageKeys.NO_DATA.getMessage());
+            return;
+        }
+
+        if (plugin.getChannelHealthManager().release(platform, data.getChannelUrl())) sender.sendMessage(MessageKeys.QUARANTINE_RELEASED.getMessage());
+        else sender.sendMessage(MessageKeys.NOT_QUARANTINED.getMessage());
+    }
+
+    @Subcommand("stats")
+    @CommandPermission("mcislive.stats")
+    public void stats(@NotNull CommandSender sender) {
+        HttpTransport transport = plugin.getHttpTransport();
+        long requests = transport.getRequests();
+
+        sender.sendMessage(MessageKeys.STATS_HTTP.getMessage()
+                .replace("{requests}", String.valueOf(requests))
+                .replace("{connections}", String.valueOf(transport.getNewConnections()))
+                .replace("{reused}", String.valueOf(percent(transport.getReusedConnections(), requests)))
+                .replace("{http2}", String.valueOf(percent(transport.getHttp2Responses(), requests))));
+
+        plugin.getPlatforms().getAll().forEach(provider -> sendPlatformStats(sender, provider));
+    }
+
+    private void sendPlatformStats(@NotNull CommandSender sender, @NotNull StreamPlatform provider) {
+        PlatformGateway gateway = provider.getGateway();
+
+        sender.sendMessage(MessageKeys.STATS_PLATFORM.getMessage()
+                .replace("{platform}", provider.getType().getFormatted())
+                .replace("{circuit}", gateway.getCircuitBreaker().getState().name())
+                .replace("{inflight}", String.valueOf(gateway.getConcurrencyLimiter().getInFlight()))
+                .replace("{limit}", String.valueOf(gateway.getConcurrencyLimiter().getLimit())));
+
+        for (RequestLane lane : RequestLane.values()) {
+            sender.sendMessage(MessageKeys.STATS_LANE.getMessage()
+                    .replace("{lane}", lane.name())
+                    .replace("{queued}", String.valueOf(gateway.getConcurrencyLimiter().getQueued(lane)))
+                    .replace("{peak}", String.valueOf(gateway.getConcurrencyLimiter().getPeakQueued(lane)))
+                    .replace("{dispatched}", String.valueOf(gateway.getConcurrencyLimiter().getDispatched(lane))));
+        }
+
+        for (ApiCredential credential : provider.getCredentials().getCredentials()) {
+            sender.sendMessage(MessageKeys.STATS_CREDENTIAL.getMessage()
+                    .replace("{credential}", credential.getLabel())
+                    .replace("{state}", credential.getState().name())
+                    .replace("{headroom}", String.valueOf((long) credential.getHeadroom())));
+        }
+    }
+
+    private static long percent(long value, long total) {
+        return total > 0 ? value * 100 / total : 0;
+    }
+
     private boolean isValidUrl(@NotNull String url, @NotNull PlatformType platform) {
-        return switch (platform) {
-            case YOUTUBE -> url.contains("youtube.com") || url.contains("youtu.be");
-            case TWITCH -> url.contains("twitch.tv");
-        };
+        StreamPlatform provider = plugin.getPlatforms().get(platform);
+        return provider != null && provider.matchesUrl(url);
     }
 }
\ No newline at end of file
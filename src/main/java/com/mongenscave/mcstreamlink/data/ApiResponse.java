@@ -0,0 +1,29 @@
+package com.mongenscave.mcstreamlink.data;
+
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.http.HttpHeaders;
+
+@Value
+public class ApiResponse<T> {
+    int statusCode;
+    HttpHeaders headers;
+    T body;
+    String error;
+
+    public boolean isSuccess() {
+        return statusCode / 100 == 2;
+    }
+
+    @NotNull
+    public static <T> ApiResponse<T> success(int statusCode, @NotNull HttpHeaders headers, @Nullable T body) {
+        return new ApiResponse<>(statusCode, headers, body, null);
+    }
+
+    @NotNull
+    public static <T> ApiResponse<T> failure(int statusCode, @NotNull HttpHeaders headers, @NotNull String error) {
+        return new ApiResponse<>(statusCode, headers, null, error);
+    }
+}
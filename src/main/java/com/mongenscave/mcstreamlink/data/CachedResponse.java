@@ -0,0 +1,9 @@
+package com.mongenscave.mcstreamlink.data;
+
+import lombok.Value;
+
+@Value
+public class CachedResponse<T> {
+    String etag;
+    T value;
+}
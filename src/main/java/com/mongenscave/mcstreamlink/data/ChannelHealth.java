@@ -0,0 +1,27 @@
+package com.mongenscave.mcstreamlink.data;
+
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChannelHealth {
+    private PlatformType platform;
+    private String channelUrl;
+    private int failures;
+    private long nextCheck;
+    private boolean quarantined;
+    private String lastError;
+
+    public ChannelHealth(@NotNull PlatformType platform, @NotNull String channelUrl) {
+        this.platform = platform;
+        this.channelUrl = channelUrl;
+        this.failures = 0;
+        this.nextCheck = 0L;
+        this.quarantined = false;
+    }
+}
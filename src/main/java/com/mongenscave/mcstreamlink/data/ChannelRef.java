@@ -0,0 +1,19 @@
+package com.mongenscave.mcstreamlink.data;
+
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+@Value
+public class ChannelRef {
+    PlatformType platform;
+    String channelId;
+    String channelUrl;
+    boolean live;
+    boolean online;
+
+    @NotNull
+    public static ChannelRef of(@NotNull PlayerMediaData data, boolean online) {
+        return new ChannelRef(data.getPlatform(), data.getChannelId(), data.getChannelUrl(), data.isLive(), online);
+    }
+}
@@ -0,0 +1,33 @@
+package com.mongenscave.mcstreamlink.data;
+
+import com.mongenscave.mcstreamlink.identifiers.ResolveStatus;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+@Value
+public class ChannelResolution {
+    private static final ChannelResolution NOT_FOUND = new ChannelResolution(ResolveStatus.NOT_FOUND, null);
+    private static final ChannelResolution UNKNOWN = new ChannelResolution(ResolveStatus.UNKNOWN, null);
+
+    ResolveStatus status;
+    String channelId;
+
+    public boolean isResolved() {
+        return status == ResolveStatus.RESOLVED;
+    }
+
+    @NotNull
+    public static ChannelResolution resolved(@NotNull String channelId) {
+        return new ChannelResolution(ResolveStatus.RESOLVED, channelId);
+    }
+
+    @NotNull
+    public static ChannelResolution notFound() {
+        return NOT_FOUND;
+    }
+
+    @NotNull
+    public static ChannelResolution unknown() {
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,9 @@
+package com.mongenscave.mcstreamlink.data;
+
+import lombok.Value;
+
+@Value
+public class FollowerCount {
+    int count;
+    long fetchedAt;
+}
@@ -0,0 +1,14 @@
+package com.mongenscave.mcstreamlink.data;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class GoLiveHistory {
+    public static final int BUCKETS = 7 * 24;
+
+    private int[] buckets = new int[BUCKETS];
+    private int total;
+    private long lastStartedAt;
+}
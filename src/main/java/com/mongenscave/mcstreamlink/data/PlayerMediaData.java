@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.UUID;
 
@@ -15,13 +16,15 @@ public class PlayerMediaData {
     private UUID playerUuid;
     private PlatformType platform;
     private String channelUrl;
+    private String channelId;
     private boolean isLive;
     private long lastChecked;
 
-    public PlayerMediaData(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull String channelUrl) {
+    public PlayerMediaData(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull String channelUrl, @Nullable String channelId) {
         this.playerUuid = playerUuid;
         this.platform = platform;
         this.channelUrl = channelUrl;
+        this.channelId = channelId;
         this.isLive = false;
         this.lastChecked = System.currentTimeMillis();
     }
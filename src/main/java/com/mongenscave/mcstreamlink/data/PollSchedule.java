@@ -0,0 +1,21 @@
+package com.mongenscave.mcstreamlink.data;
+
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import lombok.Data;
+import org.jetbrains.annotations.NotNull;
+
+@Data
+public class PollSchedule {
+    private final PlatformType platform;
+    private final String channelId;
+    private long dueAt;
+    private long lastLiveAt;
+    private int idlePolls;
+    private boolean online;
+
+    public PollSchedule(@NotNull PlatformType platform, @NotNull String channelId, long dueAt) {
+        this.platform = platform;
+        this.channelId = channelId;
+        this.dueAt = dueAt;
+    }
+}
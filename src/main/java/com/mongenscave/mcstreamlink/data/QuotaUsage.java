@@ -0,0 +1,13 @@
+package com.mongenscave.mcstreamlink.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuotaUsage {
+    private String day;
+    private long used;
+}
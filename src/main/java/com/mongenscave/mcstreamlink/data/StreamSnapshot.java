@@ -0,0 +1,50 @@
+package com.mongenscave.mcstreamlink.data;
+
+import com.mongenscave.mcstreamlink.identifiers.ChannelStatus;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+
+@Value
+public class StreamSnapshot {
+    private static final StreamSnapshot OFFLINE = new StreamSnapshot(ChannelStatus.OFFLINE, 0, null, null, null);
+    private static final StreamSnapshot INVALID = new StreamSnapshot(ChannelStatus.INVALID, 0, null, null, null);
+    private static final StreamSnapshot UNKNOWN = new StreamSnapshot(ChannelStatus.UNKNOWN, 0, null, null, null);
+
+    ChannelStatus status;
+    int viewers;
+    Integer followers;
+    Instant startedAt;
+    String title;
+
+    public boolean isLive() {
+        return status == ChannelStatus.LIVE;
+    }
+
+    @NotNull
+    public StreamSnapshot withFollowers(@Nullable Integer followers) {
+        return new StreamSnapshot(status, viewers, followers, startedAt, title);
+    }
+
+    @NotNull
+    public static StreamSnapshot live(int viewers, @Nullable Instant startedAt, @Nullable String title) {
+        return new StreamSnapshot(ChannelStatus.LIVE, viewers, null, startedAt, title);
+    }
+
+    @NotNull
+    public static StreamSnapshot offline() {
+        return OFFLINE;
+    }
+
+    @NotNull
+    public static StreamSnapshot invalid() {
+        return INVALID;
+    }
+
+    @NotNull
+    public static StreamSnapshot unknown() {
+        return UNKNOWN;
+    }
+}
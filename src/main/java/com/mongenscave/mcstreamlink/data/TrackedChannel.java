@@ -0,0 +1,19 @@
+package com.mongenscave.mcstreamlink.data;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+public class TrackedChannel {
+    private Set<String> videoIds = new LinkedHashSet<>();
+    private long lastDiscovery;
+    private int discoveries;
+    private String liveVideoId;
+    private int viewers;
+    private long startedAt;
+    private String title;
+}
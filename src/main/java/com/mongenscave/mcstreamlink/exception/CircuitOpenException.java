@@ -0,0 +1,9 @@
+package com.mongenscave.mcstreamlink.exception;
+
+import org.jetbrains.annotations.NotNull;
+
+public class CircuitOpenException extends RuntimeException {
+    public CircuitOpenException(@NotNull String name) {
+        super(name + " API circuit is open, request skipped");
+    }
+}
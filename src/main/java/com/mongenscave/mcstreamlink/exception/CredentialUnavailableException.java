@@ -0,0 +1,9 @@
+package com.mongenscave.mcstreamlink.exception;
+
+import org.jetbrains.annotations.NotNull;
+
+public class CredentialUnavailableException extends RuntimeException {
+    public CredentialUnavailableException(@NotNull String name) {
+        super("No usable " + name + " API credential, request skipped");
+    }
+}
@@ -0,0 +1,8 @@
+package com.mongenscave.mcstreamlink.identifiers;
+
+public enum ChannelStatus {
+    LIVE,
+    OFFLINE,
+    INVALID,
+    UNKNOWN
+}
@@ -0,0 +1,7 @@
+package com.mongenscave.mcstreamlink.identifiers;
+
+public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
@@ -0,0 +1,8 @@
+package com.mongenscave.mcstreamlink.identifiers;
+
+public enum CredentialState {
+    HEALTHY,
+    THROTTLED,
+    EXHAUSTED,
+    REVOKED
+}
@@ -0,0 +1,19 @@
+package com.mongenscave.mcstreamlink.identifiers;
+
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+
+public enum RequestLane {
+    INTERACTIVE(ConfigKeys.HTTP_LANES_INTERACTIVE),
+    HOT(ConfigKeys.HTTP_LANES_HOT),
+    BACKGROUND(ConfigKeys.HTTP_LANES_BACKGROUND);
+
+    private final ConfigKeys weightKey;
+
+    RequestLane(ConfigKeys weightKey) {
+        this.weightKey = weightKey;
+    }
+
+    public int getWeight() {
+        return Math.max(1, weightKey.getInt());
+    }
+}
@@ -0,0 +1,7 @@
+package com.mongenscave.mcstreamlink.identifiers;
+
+public enum ResolveStatus {
+    RESOLVED,
+    NOT_FOUND,
+    UNKNOWN
+}
@@ -0,0 +1,16 @@
+package com.mongenscave.mcstreamlink.identifiers;
+
+import lombok.Getter;
+
+@Getter
+public enum YoutubeEndpoint {
+    SEARCH(100),
+    VIDEOS(1),
+    CHANNELS(1);
+
+    private final int cost;
+
+    YoutubeEndpoint(int cost) {
+        this.cost = cost;
+    }
+}
@@ -16,13 +16,63 @@ public enum ConfigKeys {
 
     API_YOUTUBE_ENABLED("api.youtube.enabled"),
     API_YOUTUBE_API_KEY("api.youtube.api-key"),
+    API_YOUTUBE_API_KEYS("api.youtube.api-keys"),
+    API_YOUTUBE_DAILY_QUOTA("api.youtube.daily-quota"),
+    API_YOUTUBE_DISCOVERY_INTERVAL("api.youtube.discovery-interval"),
+    API_YOUTUBE_REQUESTS_PER_MINUTE("api.youtube.requests-per-minute"),
+    API_YOUTUBE_WEBSUB_ENABLED("api.youtube.websub.enabled"),
+    API_YOUTUBE_WEBSUB_HUB_URL("api.youtube.websub.hub-url"),
+    API_YOUTUBE_WEBSUB_CALLBACK_URL("api.youtube.websub.callback-url"),
+    API_YOUTUBE_WEBSUB_PORT("api.youtube.websub.port"),
+    API_YOUTUBE_WEBSUB_LEASE_SECONDS("api.youtube.websub.lease-seconds"),
+    API_YOUTUBE_WEBSUB_SECRET("api.youtube.websub.secret"),
+    API_YOUTUBE_WEBSUB_DISCOVERY_INTERVAL("api.youtube.websub.discovery-interval"),
 
     API_TWITCH_ENABLED("api.twitch.enabled"),
     API_TWITCH_CLIENT_ID("api.twitch.client-id"),
     API_TWITCH_CLIENT_SECRET("api.twitch.client-secret"),
+    API_TWITCH_APPS("api.twitch.apps"),
+    API_TWITCH_REQUESTS_PER_MINUTE("api.twitch.requests-per-minute"),
+    API_TWITCH_EVENTSUB_ENABLED("api.twitch.eventsub.enabled"),
+    API_TWITCH_EVENTSUB_URL("api.twitch.eventsub.url"),
+    API_TWITCH_EVENTSUB_SUBSCRIPTIONS_URL("api.twitch.eventsub.subscriptions-url"),
+    API_TWITCH_EVENTSUB_CLIENT_ID("api.twitch.eventsub.client-id"),
+    API_TWITCH_EVENTSUB_ACCESS_TOKEN("api.twitch.eventsub.access-token"),
+
+    HTTP_USER_AGENT("http.user-agent"),
+    HTTP_CONNECT_TIMEOUT("http.connect-timeout"),
+    HTTP_REQUEST_TIMEOUT("http.request-timeout"),
+    HTTP_KEEP_ALIVE("http.keep-alive"),
+    HTTP_THREADS("http.threads"),
+    HTTP_CONCURRENCY_INITIAL("http.concurrency.initial"),
+    HTTP_CONCURRENCY_MIN("http.concurrency.min"),
+    HTTP_CONCURRENCY_MAX("http.concurrency.max"),
+    HTTP_LANES_INTERACTIVE("http.lanes.interactive"),
+    HTTP_LANES_HOT("http.lanes.hot"),
+    HTTP_LANES_BACKGROUND("http.lanes.background"),
+    HTTP_RETRY_MAX_ATTEMPTS("http.retry.max-attempts"),
+    HTTP_RETRY_BASE_DELAY("http.retry.base-delay"),
+    HTTP_CIRCUIT_BREAKER_FAILURES("http.circuit-breaker.failure-threshold"),
+    HTTP_CIRCUIT_BREAKER_OPEN_DURATION("http.circuit-breaker.open-duration"),
 
     CHECK_INTERVAL("check.interval"),
     CHECK_ENABLED("check.enabled"),
+    CHECK_INTERVALS_LIVE("check.intervals.live"),
+    CHECK_INTERVALS_RECENT("check.intervals.recent"),
+    CHECK_INTERVALS_RECENT_WINDOW("check.intervals.recent-window"),
+    CHECK_INTERVALS_IDLE("check.intervals.idle"),
+    CHECK_INTERVALS_MAX_IDLE("check.intervals.max-idle"),
+    CHECK_SCHEDULE_ENABLED("check.schedule.enabled"),
+    CHECK_SCHEDULE_MIN_SAMPLES("check.schedule.min-samples"),
+    CHECK_SCHEDULE_BOOST("check.schedule.boost"),
+    CHECK_OFFLINE_TIER_INTERVAL("check.offline-tier.interval"),
+    CHECK_OFFLINE_TIER_REQUESTS_PER_MINUTE("check.offline-tier.requests-per-minute"),
+    CHECK_FAILURE_BACKOFF_BASE("check.failure-backoff.base"),
+    CHECK_FAILURE_BACKOFF_MAX("check.failure-backoff.max"),
+    CHECK_QUARANTINE_AFTER("check.quarantine-after"),
+
+    FOLLOWERS_TTL("followers.ttl"),
+    FOLLOWERS_REFRESH_INTERVAL("followers.refresh-interval"),
 
     NOTIFICATIONS_ENABLED("notifications.enabled"),
     NOTIFICATIONS_ACTIONBAR_ENABLED("notifications.actionbar.enabled"),
@@ -11,19 +11,34 @@ import java.util.List;
 @Getter
 public enum MessageKeys {
     RELOAD("messages.reload"),
+    RELOAD_RESTART_REQUIRED("messages.reload-restart-required"),
     NO_PERMISSION("messages.no-permission"),
 
     INVALID_URL("messages.invalid-url"),
+    CHANNEL_NOT_FOUND("messages.channel-not-found"),
     NO_DATA("messages.no-data"),
     NOT_NEGATIVE("messages.not-negative"),
     UNKNOWN_MILESTONE_COMMAND("messages.unknown-milestone-command"),
     UNKNOWN_MILESTONE("messages.unknown-milestone"),
 
     SUCCESS_ADD("messages.success-add"),
+    SUCCESS_ADD_PENDING("messages.success-add-pending"),
+    ADD_FAILED("messages.add-failed"),
     SUCCESS_REMOVE("messages.success-remove"),
 
     MILESTONE_ADDED("messages.milestone-add"),
-    MILESTONE_REMOVED("messages.milestone-remove");
+    MILESTONE_REMOVED("messages.milestone-remove"),
+
+    QUARANTINE_HEADER("messages.quarantine-header"),
+    QUARANTINE_ENTRY("messages.quarantine-entry"),
+    QUARANTINE_EMPTY("messages.quarantine-empty"),
+    QUARANTINE_RELEASED("messages.quarantine-released"),
+    NOT_QUARANTINED("messages.not-quarantined"),
+
+    STATS_HTTP("messages.stats-http"),
+    STATS_PLATFORM("messages.stats-platform"),
+    STATS_LANE("messages.stats-lane"),
+    STATS_CREDENTIAL("messages.stats-credential");
 
     private final String path;
     private static final Config config = McStreamLink.getInstance().getLanguage();
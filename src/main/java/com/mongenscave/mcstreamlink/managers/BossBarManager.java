@@ -2,6 +2,7 @@ package com.mongenscave.mcstreamlink.managers;
 
 import com.mongenscave.mcstreamlink.McStreamLink;
 import com.mongenscave.mcstreamlink.data.MilestoneData;
+import com.mongenscave.mcstreamlink.data.StreamSnapshot;
 import com.mongenscave.mcstreamlink.identifiers.MilestoneType;
 import com.mongenscave.mcstreamlink.identifiers.PlatformType;
 import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
@@ -27,7 +28,12 @@ public class BossBarManager {
         this.activeBossBars = new ConcurrentHashMap<>();
     }
 
-    public void updateBossBars(@NotNull UUID playerUuid, @NotNull PlatformType platform, int currentValue, boolean isFollower) {
+    public void updateBossBars(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull StreamSnapshot snapshot) {
+        updateBossBar(playerUuid, platform, snapshot.getViewers(), false);
+        if (snapshot.getFollowers() != null) updateBossBar(playerUuid, platform, snapshot.getFollowers(), true);
+    }
+
+    private void updateBossBar(@NotNull UUID playerUuid, @NotNull PlatformType platform, int currentValue, boolean isFollower) {
         Player player = plugin.getServer().getPlayer(playerUuid);
         if (player == null || !player.isOnline()) return;
 
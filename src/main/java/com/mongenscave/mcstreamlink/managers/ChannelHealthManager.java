@@ -0,0 +1,145 @@
+package com.mongenscave.mcstreamlink.managers;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.data.ChannelHealth;
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ChannelHealthManager {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String DATA_FILE = "quarantine.json";
+    private static final long SAVE_DELAY_TICKS = 200L;
+
+    private final McStreamLink plugin;
+    private final File dataFile;
+    private final AtomicBoolean saveScheduled;
+    private final Map<String, ChannelHealth> channels;
+
+    public ChannelHealthManager(@NotNull McStreamLink plugin) {
+        this.plugin = plugin;
+        this.dataFile = new File(plugin.getDataFolder(), DATA_FILE);
+        this.saveScheduled = new AtomicBoolean(false);
+        this.channels = new ConcurrentHashMap<>();
+
+        loadData();
+    }
+
+    public boolean shouldSkip(@NotNull PlatformType platform, @NotNull String channelUrl) {
+        ChannelHealth health = channels.get(key(platform, channelUrl));
+        if (health == null) return false;
+
+        return health.isQuarantined() || System.currentTimeMillis() < health.getNextCheck();
+    }
+
+    public void recordFailure(@NotNull PlatformType platform, @NotNull String channelUrl, @NotNull String reason) {
+        ChannelHealth health = channels.computeIfAbsent(key(platform, channelUrl), k -> new ChannelHealth(platform, channelUrl));
+
+        synchronized (health) {
+            int failures = health.getFailures() + 1;
+            long baseDelay = ConfigKeys.CHECK_FAILURE_BACKOFF_BASE.getInt() * 1000L;
+            long maxDelay = ConfigKeys.CHECK_FAILURE_BACKOFF_MAX.getInt() * 1000L;
+            long delay = Math.min(maxDelay, baseDelay << Math.min(failures - 1, 20));
+
+            health.setFailures(failures);
+            health.setLastError(reason);
+            health.setNextCheck(System.currentTimeMillis() + delay);
+
+            if (failures == 1) LoggerUtils.warn("{} channel {} failed ({}), backing off", platform.name(), channelUrl, reason);
+
+            if (!health.isQuarantined() && failures >= ConfigKeys.CHECK_QUARANTINE_AFTER.getInt()) {
+                health.setQuarantined(true);
+                LoggerUtils.warn("{} channel {} quarantined after {} failures ({})", platform.name(), channelUrl, failures, reason);
+            }
+        }
+
+        scheduleSave();
+    }
+
+    public void recordSuccess(@NotNull PlatformType platform, @NotNull String channelUrl) {
+        if (channels.remove(key(platform, channelUrl)) != null) scheduleSave();
+    }
+
+    public boolean release(@NotNull PlatformType platform, @NotNull String channelUrl) {
+        boolean released = channels.remove(key(platform, channelUrl)) != null;
+        if (released) scheduleSave();
+
+        return released;
+    }
+
+    @NotNull
+    public List<ChannelHealth> getQuarantined() {
+        List<ChannelHealth> quarantined = new ArrayList<>();
+
+        channels.values().forEach(health -> {
+            if (health.isQuarantined()) quarantined.add(health);
+        });
+
+        return quarantined;
+    }
+
+    @NotNull
+    private static String key(@NotNull PlatformType platform, @NotNull String channelUrl) {
+        return platform.name() + ":" + channelUrl;
+    }
+
+    private void loadData() {
+        if (!dataFile.exists()) return;
+
+        try (Reader reader = new FileReader(dataFile)) {
+            Type type = new TypeToken<Map<String, ChannelHealth>>(){}.getType();
+            Map<String, ChannelHealth> loaded = GSON.fromJson(reader, type);
+
+            if (loaded != null) channels.putAll(loaded);
+        } catch (Exception exception) {
+            LoggerUtils.error(exception.getMessage());
+        }
+    }
+
+    private void saveData() {
+        saveScheduled.set(false);
+
+        Map<String, ChannelHealth> snapshot = new HashMap<>();
+
+        channels.forEach((key, health) -> {
+            synchronized (health) {
+                snapshot.put(key, new ChannelHealth(health.getPlatform(), health.getChannelUrl(), health.getFailures(),
+                        health.getNextCheck(), health.isQuarantined(), health.getLastError()));
+            }
+        });
+
+        synchronized (dataFile) {
+            try (Writer writer = new FileWriter(dataFile)) {
+                GSON.toJson(snapshot, writer);
+            } catch (IOException exception) {
+                LoggerUtils.error(exception.getMessage());
+            }
+        }
+    }
+
+    private void scheduleSave() {
+        if (saveScheduled.compareAndSet(false, true)) plugin.getScheduler().runTaskLaterAsynchronously(this::saveData, SAVE_DELAY_TICKS);
+    }
+
+    public void save() {
+        saveData();
+    }
+}
@@ -0,0 +1,181 @@
+package com.mongenscave.mcstreamlink.managers;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.data.GoLiveHistory;
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class GoLiveHistoryManager {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String DATA_FILE = "golive-history.json";
+    private static final long SAVE_DELAY_TICKS = 200L;
+    private static final long SAME_STREAM_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final int MAX_SAMPLES = 200;
+
+    private final McStreamLink plugin;
+    private final File dataFile;
+    private final AtomicBoolean saveScheduled;
+    private final Map<String, GoLiveHistory> histories;
+
+    public GoLiveHistoryManager(@NotNull McStreamLink plugin) {
+        this.plugin = plugin;
+        this.dataFile = new File(plugin.getDataFolder(), DATA_FILE);
+        this.saveScheduled = new AtomicBoolean(false);
+        this.histories = new ConcurrentHashMap<>();
+
+        loadData();
+    }
+
+    public void record(@NotNull PlatformType platform, @NotNull String channelId, @NotNull Instant startedAt) {
+        GoLiveHistory history = histories.computeIfAbsent(key(platform, channelId), k -> new GoLiveHistory());
+
+        synchronized (history) {
+            long startedMillis = startedAt.toEpochMilli();
+            if (Math.abs(startedMillis - history.getLastStartedAt()) < SAME_STREAM_MILLIS) return;
+
+            // halving keeps the histogram following schedule changes instead of weighing years-old habits equally
+            if (history.getTotal() >= MAX_SAMPLES) {
+                int total = 0;
+                int[] buckets = history.getBuckets();
+
+                for (int i = 0; i < buckets.length; i++) {
+                    buckets[i] /= 2;
+                    total += buckets[i];
+                }
+
+                history.setTotal(total);
+            }
+
+            history.getBuckets()[bucket(startedMillis)]++;
+            history.setTotal(history.getTotal() + 1);
+            history.setLastStartedAt(startedMillis);
+        }
+
+        scheduleSave();
+    }
+
+    public double getRelativeLikelihood(@NotNull PlatformType platform, @NotNull String channelId, long atMillis) {
+        GoLiveHistory history = histories.get(key(platform, channelId));
+        if (history == null) return -1.0;
+
+        synchronized (history) {
+            if (history.getTotal() < Math.max(1, ConfigKeys.CHECK_SCHEDULE_MIN_SAMPLES.getInt())) return -1.0;
+
+            int[] buckets = history.getBuckets();
+            int bucket = bucket(atMillis);
+
+            // neighbouring hours count half so streams starting around the hour boundary land in both
+            double smoothed = buckets[bucket]
+                    + 0.5 * buckets[(bucket + GoLiveHistory.BUCKETS - 1) % GoLiveHistory.BUCKETS]
+                    + 0.5 * buckets[(bucket + 1) % GoLiveHistory.BUCKETS];
+
+            return smoothed / (2.0 * history.getTotal() / GoLiveHistory.BUCKETS);
+        }
+    }
+
+    public long getNextLikelyStart(@NotNull PlatformType platform, @NotNull String channelId, long fromMillis, long untilMillis) {
+        long hour = ZonedDateTime.ofInstant(Instant.ofEpochMilli(fromMillis), ZoneId.systemDefault())
+                .truncatedTo(ChronoUnit.HOURS)
+                .plusHours(1)
+                .toInstant()
+                .toEpochMilli();
+
+        for (; hour <= untilMillis; hour += TimeUnit.HOURS.toMillis(1)) {
+            if (getRelativeLikelihood(platform, channelId, hour) >= 1.0) return hour;
+        }
+
+        return -1L;
+    }
+
+    private static int bucket(long epochMillis) {
+        ZonedDateTime time = ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        return (time.getDayOfWeek().getValue() - 1) * 24 + time.getHour();
+    }
+
+    @NotNull
+    private static String key(@NotNull PlatformType platform, @NotNull String channelId) {
+        return platform.name() + ":" + channelId;
+    }
+
+    private void loadData() {
+        if (!dataFile.exists()) return;
+
+        try (Reader reader = new FileReader(dataFile)) {
+            Type type = new TypeToken<Map<String, GoLiveHistory>>(){}.getType();
+            Map<String, GoLiveHistory> loaded = GSON.fromJson(reader, type);
+            if (loaded == null) return;
+
+            loaded.forEach((key, history) -> {
+                if (history != null && history.getBuckets() != null && history.getBuckets().length == GoLiveHistory.BUCKETS) histories.put(key, history);
+            });
+        } catch (Exception exception) {
+            LoggerUtils.error(exception.getMessage());
+        }
+    }
+
+    private void saveData() {
+        saveScheduled.set(false);
+        pruneUntracked();
+
+        Map<String, GoLiveHistory> snapshot = new HashMap<>();
+
+        histories.forEach((key, history) -> {
+            synchronized (history) {
+                GoLiveHistory copy = new GoLiveHistory();
+                copy.setBuckets(history.getBuckets().clone());
+                copy.setTotal(history.getTotal());
+                copy.setLastStartedAt(history.getLastStartedAt());
+                snapshot.put(key, copy);
+            }
+        });
+
+        try (Writer writer = new FileWriter(dataFile)) {
+            GSON.toJson(snapshot, writer);
+        } catch (IOException exception) {
+            LoggerUtils.error(exception.getMessage());
+        }
+    }
+
+    // removed or re-linked channels would otherwise keep their histogram in the file forever
+    private void pruneUntracked() {
+        MediaDataManager dataManager = plugin.getMediaDataManager();
+        if (dataManager == null) return;
+
+        Set<String> tracked = new HashSet<>();
+        dataManager.getTrackedMedia().forEach(data -> tracked.add(key(data.getPlatform(), data.getChannelId())));
+
+        histories.keySet().retainAll(tracked);
+    }
+
+    private void scheduleSave() {
+        if (saveScheduled.compareAndSet(false, true)) plugin.getScheduler().runTaskLaterAsynchronously(this::saveData, SAVE_DELAY_TICKS);
+    }
+
+    public void save() {
+        saveData();
+    }
+}
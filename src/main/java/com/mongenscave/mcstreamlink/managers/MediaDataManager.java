@@ -17,9 +17,11 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -45,10 +47,10 @@ public class MediaDataManager {
         loadData();
     }
 
-    public void addOrUpdateMedia(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull String channelUrl) {
+    public void addOrUpdateMedia(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull String channelUrl, @Nullable String channelId) {
         lock.writeLock().lock();
         try {
-            PlayerMediaData data = new PlayerMediaData(playerUuid, platform, channelUrl);
+            PlayerMediaData data = new PlayerMediaData(playerUuid, platform, channelUrl, channelId);
             dataCache.computeIfAbsent(playerUuid, k -> new ConcurrentHashMap<>()).put(platform, data);
             saveDataAsync();
         } finally {
@@ -94,6 +96,23 @@ public class MediaDataManager {
         }
     }
 
+    public void setChannelId(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull String channelId) {
+        lock.writeLock().lock();
+        try {
+            Map<PlatformType, PlayerMediaData> playerData = dataCache.get(playerUuid);
+            if (playerData != null) {
+                PlayerMediaData data = playerData.get(platform);
+
+                if (data != null) {
+                    data.setChannelId(channelId);
+                    saveDataAsync();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     @Nullable
     public PlayerMediaData getMediaData(@NotNull UUID playerUuid, @NotNull PlatformType platform) {
         lock.readLock().lock();
@@ -138,6 +157,36 @@ public class MediaDataManager {
         }
     }
 
+    @NotNull
+    public List<PlayerMediaData> getUnresolvedMedia() {
+        lock.readLock().lock();
+        try {
+            List<PlayerMediaData> unresolved = new ArrayList<>();
+            dataCache.values().forEach(platformMap -> platformMap.values().forEach(data -> {
+                if (data.getChannelId() == null) unresolved.add(data);
+            }));
+
+            return unresolved;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @NotNull
+    public List<PlayerMediaData> getTrackedMedia() {
+        lock.readLock().lock();
+        try {
+            List<PlayerMediaData> tracked = new ArrayList<>();
+            dataCache.values().forEach(platformMap -> platformMap.values().forEach(data -> {
+                if (data.getChannelId() != null) tracked.add(data);
+            }));
+
+            return tracked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @NotNull
     public Set<UUID> getAllLivePlayers() {
         lock.readLock().lock();
@@ -6,12 +6,14 @@ import com.google.gson.reflect.TypeToken;
 import com.mongenscave.mcstreamlink.McStreamLink;
 import com.mongenscave.mcstreamlink.annotations.Milestone;
 import com.mongenscave.mcstreamlink.data.MilestoneData;
+import com.mongenscave.mcstreamlink.data.StreamSnapshot;
 import com.mongenscave.mcstreamlink.identifiers.MilestoneType;
 import com.mongenscave.mcstreamlink.identifiers.PlatformType;
 import com.mongenscave.mcstreamlink.utils.LoggerUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.FileReader;
@@ -86,7 +88,10 @@ public class MilestoneManager {
         }
     }
 
-    public void checkMilestones(@NotNull UUID playerUuid, @NotNull PlatformType platform, int viewerCount, int followerCount) {
+    public void checkMilestones(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull StreamSnapshot snapshot) {
+        int viewerCount = snapshot.getViewers();
+        Integer followerCount = snapshot.getFollowers();
+
         lock.writeLock().lock();
         try {
             List<MilestoneData> playerMilestones = milestones.get(playerUuid);
@@ -117,7 +122,7 @@ public class MilestoneManager {
         }
     }
 
-    private static boolean isTrigger(int viewerCount, int followerCount, @NotNull MilestoneData milestone) {
+    private static boolean isTrigger(int viewerCount, @Nullable Integer followerCount, @NotNull MilestoneData milestone) {
         boolean shouldTrigger = false;
 
         switch (milestone.getType()) {
@@ -125,7 +130,7 @@ public class MilestoneManager {
                 if (viewerCount >= milestone.getValue()) shouldTrigger = true;
             }
             case FOLLOWER -> {
-                if (followerCount >= milestone.getValue()) shouldTrigger = true;
+                if (followerCount != null && followerCount >= milestone.getValue()) shouldTrigger = true;
             }
         }
         return shouldTrigger;
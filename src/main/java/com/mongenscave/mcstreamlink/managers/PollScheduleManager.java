@@ -0,0 +1,191 @@
+package com.mongenscave.mcstreamlink.managers;
+
+import com.mongenscave.mcstreamlink.data.ChannelRef;
+import com.mongenscave.mcstreamlink.data.PollSchedule;
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class PollScheduleManager {
+    private static final long LEASE_INTERVALS = 5L;
+
+    private final GoLiveHistoryManager history;
+    private final Map<PlatformType, Map<String, PollSchedule>> schedules;
+    private final Map<PlatformType, PriorityQueue<PollSchedule>> queues;
+
+    public PollScheduleManager(@NotNull GoLiveHistoryManager history) {
+        this.history = history;
+        this.schedules = new EnumMap<>(PlatformType.class);
+        this.queues = new EnumMap<>(PlatformType.class);
+
+        for (PlatformType platform : PlatformType.values()) {
+            schedules.put(platform, new HashMap<>());
+            queues.put(platform, new PriorityQueue<>(Comparator.comparingLong(PollSchedule::getDueAt)));
+        }
+    }
+
+    public synchronized void sync(@NotNull PlatformType platform, @NotNull Collection<ChannelRef> channels) {
+        Map<String, PollSchedule> platformSchedules = schedules.get(platform);
+        PriorityQueue<PollSchedule> queue = queues.get(platform);
+        Set<String> present = new HashSet<>();
+        long now = System.currentTimeMillis();
+
+        for (ChannelRef channel : channels) {
+            present.add(channel.getChannelId());
+
+            PollSchedule existing = platformSchedules.get(channel.getChannelId());
+            if (existing != null) {
+                updateTier(existing, channel.isOnline(), now);
+                continue;
+            }
+
+            PollSchedule schedule = new PollSchedule(platform, channel.getChannelId(), now);
+            schedule.setOnline(channel.isOnline());
+            if (channel.isLive()) schedule.setLastLiveAt(now);
+
+            platformSchedules.put(channel.getChannelId(), schedule);
+            queue.add(schedule);
+        }
+
+        platformSchedules.values().removeIf(schedule -> {
+            if (present.contains(schedule.getChannelId())) return false;
+
+            queue.remove(schedule);
+            return true;
+        });
+    }
+
+    @NotNull
+    public synchronized List<String> takeDue(@NotNull PlatformType platform, int batchSize) {
+        PriorityQueue<PollSchedule> queue = queues.get(platform);
+        List<PollSchedule> taken = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        long horizon = now + getBaseIntervalMillis();
+
+        // top up the last batch with channels due soon, a partly filled batch costs the same request
+        while (!queue.isEmpty()) {
+            long dueAt = queue.peek().getDueAt();
+            boolean due = dueAt <= now;
+            boolean fillsBatch = dueAt <= horizon && !taken.isEmpty() && taken.size() % Math.max(1, batchSize) != 0;
+
+            if (!due && !fillsBatch) break;
+            taken.add(queue.poll());
+        }
+
+        // taken channels stay leased until their result reschedules them, so a lost cycle cannot drop them
+        long leaseUntil = now + getBaseIntervalMillis() * LEASE_INTERVALS;
+        List<String> channelIds = new ArrayList<>(taken.size());
+
+        for (PollSchedule schedule : taken) {
+            schedule.setDueAt(leaseUntil);
+            queue.add(schedule);
+            channelIds.add(schedule.getChannelId());
+        }
+
+        return channelIds;
+    }
+
+    public synchronized void reschedule(@NotNull PlatformType platform, @NotNull String channelId, boolean live) {
+        PollSchedule schedule = schedules.get(platform).get(channelId);
+        if (schedule == null) return;
+
+        long now = System.currentTimeMillis();
+        long interval;
+
+        if (live) {
+            schedule.setLastLiveAt(now);
+            schedule.setIdlePolls(0);
+            interval = seconds(ConfigKeys.CHECK_INTERVALS_LIVE);
+        } else if (now - schedule.getLastLiveAt() < seconds(ConfigKeys.CHECK_INTERVALS_RECENT_WINDOW)) {
+            interval = seconds(ConfigKeys.CHECK_INTERVALS_RECENT);
+        } else {
+            int idlePolls = schedule.getIdlePolls() + 1;
+            schedule.setIdlePolls(idlePolls);
+            interval = Math.min(seconds(ConfigKeys.CHECK_INTERVALS_MAX_IDLE), seconds(ConfigKeys.CHECK_INTERVALS_IDLE) << Math.min(idlePolls - 1, 20));
+        }
+
+        long dueAt = live ? now + interval : positionOffline(schedule, now, interval);
+        if (!schedule.isOnline()) dueAt = Math.max(dueAt, now + seconds(ConfigKeys.CHECK_OFFLINE_TIER_INTERVAL));
+
+        requeue(schedule, dueAt);
+    }
+
+    public synchronized void release(@NotNull PlatformType platform, @NotNull String channelId) {
+        release(platform, channelId, System.currentTimeMillis());
+    }
+
+    public synchronized void release(@NotNull PlatformType platform, @NotNull String channelId, long dueAt) {
+        PollSchedule schedule = schedules.get(platform).get(channelId);
+        if (schedule != null) requeue(schedule, dueAt);
+    }
+
+    public synchronized void clear(@NotNull PlatformType platform) {
+        schedules.get(platform).clear();
+        queues.get(platform).clear();
+    }
+
+    public synchronized long getNextDue(@NotNull Collection<PlatformType> platforms) {
+        long nextDue = Long.MAX_VALUE;
+
+        for (PlatformType platform : platforms) {
+            PriorityQueue<PollSchedule> queue = queues.get(platform);
+            if (!queue.isEmpty()) nextDue = Math.min(nextDue, queue.peek().getDueAt());
+        }
+
+        return nextDue;
+    }
+
+    private void updateTier(@NotNull PollSchedule schedule, boolean online, long now) {
+        if (schedule.isOnline() == online) return;
+        schedule.setOnline(online);
+
+        // a joining streamer is pulled forward to a random point within one interval, so join waves spread out instead of landing in one cycle
+        long promotedDue = now + ThreadLocalRandom.current().nextLong(getBaseIntervalMillis() + 1);
+        if (online && schedule.getDueAt() > promotedDue) requeue(schedule, promotedDue);
+    }
+
+    private long positionOffline(@NotNull PollSchedule schedule, long now, long interval) {
+        if (!ConfigKeys.CHECK_SCHEDULE_ENABLED.getBoolean()) return now + interval;
+
+        double likelihood = history.getRelativeLikelihood(schedule.getPlatform(), schedule.getChannelId(), now);
+        if (likelihood < 0) return now + interval;
+
+        // trading polls from unlikely hours into likely ones keeps the daily spend roughly level
+        double boost = Math.max(1, ConfigKeys.CHECK_SCHEDULE_BOOST.getInt());
+        double scale = likelihood > 0 ? Math.clamp(1.0 / likelihood, 1.0 / boost, boost) : boost;
+        long scaled = Math.clamp((long) (interval * scale),
+                Math.min(interval, seconds(ConfigKeys.CHECK_INTERVALS_LIVE)), Math.max(interval, seconds(ConfigKeys.CHECK_INTERVALS_MAX_IDLE)));
+
+        long windowStart = history.getNextLikelyStart(schedule.getPlatform(), schedule.getChannelId(), now, now + scaled);
+        return windowStart > 0 ? windowStart : now + scaled;
+    }
+
+    private void requeue(@NotNull PollSchedule schedule, long dueAt) {
+        PriorityQueue<PollSchedule> queue = queues.get(schedule.getPlatform());
+
+        queue.remove(schedule);
+        schedule.setDueAt(dueAt);
+        queue.add(schedule);
+    }
+
+    private static long getBaseIntervalMillis() {
+        return seconds(ConfigKeys.CHECK_INTERVAL);
+    }
+
+    private static long seconds(@NotNull ConfigKeys key) {
+        return TimeUnit.SECONDS.toMillis(Math.max(1, key.getInt()));
+    }
+}
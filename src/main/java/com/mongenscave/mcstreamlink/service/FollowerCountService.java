@@ -0,0 +1,118 @@
+package com.mongenscave.mcstreamlink.service;
+
+import com.github.Anon8281.universalScheduler.scheduling.tasks.MyScheduledTask;
+import com.mongenscave.mcstreamlink.McStreamLink;
+import com.mongenscave.mcstreamlink.clients.PlatformRegistry;
+import com.mongenscave.mcstreamlink.clients.StreamPlatform;
+import com.mongenscave.mcstreamlink.data.FollowerCount;
+import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.identifiers.RequestLane;
+import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import com.mongenscave.mcstreamlink.utils.LoggerUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class FollowerCountService {
+    private static final long EVICT_AFTER_TTLS = 4L;
+
+    private final McStreamLink plugin;
+    private final PlatformRegistry platforms;
+    private final Map<PlatformType, Map<String, FollowerCount>> counts;
+    private final Map<PlatformType, Set<String>> pending;
+    private final Set<String> refreshing;
+    private final AtomicBoolean flushScheduled;
+    private MyScheduledTask task;
+
+    public FollowerCountService(@NotNull McStreamLink plugin, @NotNull PlatformRegistry platforms) {
+        this.plugin = plugin;
+        this.platforms = platforms;
+        this.counts = new EnumMap<>(PlatformType.class);
+        this.pending = new EnumMap<>(PlatformType.class);
+        this.refreshing = ConcurrentHashMap.newKeySet();
+        this.flushScheduled = new AtomicBoolean(false);
+
+        for (PlatformType platform : PlatformType.values()) {
+            counts.put(platform, new ConcurrentHashMap<>());
+            pending.put(platform, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public void start() {
+        long intervalTicks = Math.max(1, ConfigKeys.FOLLOWERS_REFRESH_INTERVAL.getInt()) * 20L;
+        task = plugin.getScheduler().runTaskTimerAsynchronously(this::refreshPending, intervalTicks, intervalTicks);
+    }
+
+    public void stop() {
+        if (task != null && !task.isCancelled()) task.cancel();
+    }
+
+    public void reload() {
+        stop();
+        start();
+    }
+
+    @Nullable
+    public Integer get(@NotNull PlatformType platform, @NotNull String channelId) {
+        FollowerCount cached = counts.get(platform).get(channelId);
+
+        if (cached == null || System.currentTimeMillis() - cached.getFetchedAt() >= getTtlMillis()) pending.get(platform).add(channelId);
+        if (cached == null && flushScheduled.compareAndSet(false, true)) plugin.getScheduler().runTaskAsynchronously(this::refreshPending);
+
+        return cached != null ? cached.getCount() : null;
+    }
+
+    private void refreshPending() {
+        flushScheduled.set(false);
+        evictUnused();
+
+        for (PlatformType platform : PlatformType.values()) {
+            StreamPlatform provider = platforms.get(platform);
+            if (provider == null || !provider.isEnabled() || !provider.isAvailable()) continue;
+
+            List<String> channelIds = new ArrayList<>();
+            Set<String> queued = pending.get(platform);
+
+            for (String channelId : List.copyOf(queued)) {
+                queued.remove(channelId);
+                if (refreshing.add(key(platform, channelId))) channelIds.add(channelId);
+            }
+
+            if (channelIds.isEmpty()) continue;
+
+            provider.fetchFollowerCounts(channelIds, RequestLane.BACKGROUND).whenComplete((results, exception) -> {
+                channelIds.forEach(channelId -> refreshing.remove(key(platform, channelId)));
+
+                if (exception != null) {
+                    LoggerUtils.error(exception.getMessage());
+                    return;
+                }
+
+                long now = System.currentTimeMillis();
+                results.forEach((channelId, count) -> counts.get(platform).put(channelId, new FollowerCount(count, now)));
+            });
+        }
+    }
+
+    private void evictUnused() {
+        long cutoff = System.currentTimeMillis() - getTtlMillis() * EVICT_AFTER_TTLS;
+        counts.values().forEach(platformCounts -> platformCounts.values().removeIf(cached -> cached.getFetchedAt() < cutoff));
+    }
+
+    private long getTtlMillis() {
+        return TimeUnit.SECONDS.toMillis(ConfigKeys.FOLLOWERS_TTL.getInt());
+    }
+
+    @NotNull
+    private static String key(@NotNull PlatformType platform, @NotNull String channelId) {
+        return platform.name() + ":" + channelId;
+    }
+}
@@ -2,85 +2,222 @@ package com.mongenscave.mcstreamlink.service;
 
 import com.github.Anon8281.universalScheduler.scheduling.tasks.MyScheduledTask;
 import com.mongenscave.mcstreamlink.McStreamLink;
-import com.mongenscave.mcstreamlink.clients.TwitchApiClient;
-import com.mongenscave.mcstreamlink.clients.YoutubeApiClient;
+import com.mongenscave.mcstreamlink.clients.PlatformRegistry;
+import com.mongenscave.mcstreamlink.clients.RateLimiter;
+import com.mongenscave.mcstreamlink.clients.StreamPlatform;
+import com.mongenscave.mcstreamlink.data.ChannelRef;
+import com.mongenscave.mcstreamlink.data.ChannelResolution;
 import com.mongenscave.mcstreamlink.data.PlayerMediaData;
+import com.mongenscave.mcstreamlink.data.StreamSnapshot;
+import com.mongenscave.mcstreamlink.identifiers.ChannelStatus;
 import com.mongenscave.mcstreamlink.identifiers.PlatformType;
+import com.mongenscave.mcstreamlink.identifiers.RequestLane;
 import com.mongenscave.mcstreamlink.identifiers.keys.ConfigKeys;
+import com.mongenscave.mcstreamlink.managers.ChannelHealthManager;
+import com.mongenscave.mcstreamlink.managers.GoLiveHistoryManager;
 import com.mongenscave.mcstreamlink.managers.MediaDataManager;
+import com.mongenscave.mcstreamlink.managers.PollScheduleManager;
 import com.mongenscave.mcstreamlink.utils.LoggerUtils;
 import com.mongenscave.mcstreamlink.utils.NotificationUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class LiveCheckService {
+    private static final long MIN_CYCLE_DELAY_TICKS = 20L;
+    private static final long CYCLE_TIMEOUT_INTERVALS = 5L;
+
     private final McStreamLink plugin;
     private final MediaDataManager dataManager;
-    private final YoutubeApiClient youtubeClient;
-    private final TwitchApiClient twitchClient;
+    private final ChannelHealthManager healthManager;
+    private final GoLiveHistoryManager historyManager;
+    private final PlatformRegistry platforms;
     private final NotificationUtils notificationService;
+    private final FollowerCountService followerCountService;
 
-    private final ConcurrentHashMap<UUID, Map<PlatformType, Boolean>> previousStates;
+    private final ConcurrentHashMap<UUID, Map<PlatformType, StreamSnapshot>> snapshots;
+    private final AtomicBoolean migrating;
+    private final AtomicBoolean cycleInFlight;
+    private final AtomicInteger generation;
+    private final PollScheduleManager schedules;
+    private final Set<PlatformType> trimmed;
+    private final Set<String> announced;
+    private final Map<PlatformType, RateLimiter> offlineTierLimiters;
     private MyScheduledTask task;
+    private volatile boolean running;
+    private int overruns;
+    private long longestCycle;
 
     public LiveCheckService(
             @NotNull McStreamLink plugin,
             @NotNull MediaDataManager dataManager,
-            @NotNull YoutubeApiClient youtubeClient,
-            @NotNull TwitchApiClient twitchClient,
-            @NotNull NotificationUtils notificationService
+            @NotNull ChannelHealthManager healthManager,
+            @NotNull GoLiveHistoryManager historyManager,
+            @NotNull PlatformRegistry platforms,
+            @NotNull NotificationUtils notificationService,
+            @NotNull FollowerCountService followerCountService
     ) {
         this.plugin = plugin;
         this.dataManager = dataManager;
-        this.youtubeClient = youtubeClient;
-        this.twitchClient = twitchClient;
+        this.healthManager = healthManager;
+        this.historyManager = historyManager;
+        this.platforms = platforms;
         this.notificationService = notificationService;
-        this.previousStates = new ConcurrentHashMap<>();
+        this.followerCountService = followerCountService;
+        this.snapshots = new ConcurrentHashMap<>();
+        this.migrating = new AtomicBoolean(false);
+        this.cycleInFlight = new AtomicBoolean(false);
+        this.generation = new AtomicInteger();
+        this.schedules = new PollScheduleManager(historyManager);
+        this.trimmed = ConcurrentHashMap.newKeySet();
+        this.announced = ConcurrentHashMap.newKeySet();
+        this.offlineTierLimiters = new ConcurrentHashMap<>();
     }
 
     public void start() {
         if (!ConfigKeys.CHECK_ENABLED.getBoolean()) return;
 
-        int interval = ConfigKeys.CHECK_INTERVAL.getInt();
-        long intervalTicks = interval * 20L;
-
-        task = plugin.getScheduler().runTaskTimerAsynchronously(this::checkAllPlayers, 20L, intervalTicks);
+        running = true;
+        scheduleCycle(generation.incrementAndGet(), MIN_CYCLE_DELAY_TICKS);
+        platforms.getAll().forEach(platform -> platform.startPush((channelId, snapshot) -> applyPushed(platform.getType(), channelId, snapshot)));
     }
 
     public void stop() {
-        if (!task.isCancelled()) task.cancel();
+        running = false;
+        generation.incrementAndGet();
+        if (task != null && !task.isCancelled()) task.cancel();
+        platforms.getAll().forEach(StreamPlatform::stopPush);
     }
 
-    private void checkAllPlayers() {
-        Set<UUID> allPlayers = getAllPlayersWithMedia();
+    // check.enabled and the push toggles are only read on start, so a reload restarts the runner and the push receivers
+    public void reload() {
+        offlineTierLimiters.clear();
+        platforms.getAll().forEach(platform -> platform.getGateway().reload());
 
-        if (allPlayers.isEmpty()) return;
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        stop();
+        start();
+    }
 
-        for (UUID playerUuid : allPlayers) {
-            Map<PlatformType, PlayerMediaData> playerData = dataManager.getAllPlayerData(playerUuid);
+    private void scheduleCycle(int run, long delayTicks) {
+        if (running && run == generation.get()) task = plugin.getScheduler().runTaskLaterAsynchronously(() -> runCycle(run), delayTicks);
+    }
+
+    // a cycle still in flight from before a restart must not keep its own chain going next to the new one
+    private void runCycle(int run) {
+        if (!running || run != generation.get()) return;
+
+        long intervalMillis = TimeUnit.SECONDS.toMillis(Math.max(1, ConfigKeys.CHECK_INTERVAL.getInt()));
+
+        // a timed out cycle keeps its requests running, so no new one starts until its work has really finished
+        if (!cycleInFlight.compareAndSet(false, true)) {
+            scheduleCycle(run, intervalMillis / 50L);
+            return;
+        }
 
-            for (Map.Entry<PlatformType, PlayerMediaData> entry : playerData.entrySet()) {
-                PlatformType platform = entry.getKey();
-                PlayerMediaData data = entry.getValue();
+        long started = System.nanoTime();
+        CompletableFuture<Void> cycle;
 
-                CompletableFuture<Void> future = checkPlayerPlatform(playerUuid, platform, data);
-                futures.add(future);
+        try {
+            cycle = checkAllPlayers();
+        } catch (RuntimeException exception) {
+            cycle = CompletableFuture.failedFuture(exception);
+        }
+
+        cycle.whenComplete((v, exception) -> cycleInFlight.set(false));
+
+        // the next cycle is only scheduled once this one settles, so slow APIs stretch the cadence instead of stacking cycles
+        cycle.copy().orTimeout(intervalMillis * CYCLE_TIMEOUT_INTERVALS, TimeUnit.MILLISECONDS).whenComplete((v, exception) -> {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            if (exception instanceof TimeoutException) {
+                LoggerUtils.error("Live check cycle still running after {}ms, the next one waits until it finishes", elapsedMillis);
+            } else if (exception != null) {
+                LoggerUtils.error("Live check cycle failed: {}", exception.getMessage());
             }
+
+            scheduleCycle(run, getNextDelayTicks(elapsedMillis, intervalMillis));
+        });
+    }
+
+    private long getNextDelayTicks(long elapsedMillis, long intervalMillis) {
+        long remainingMillis = intervalMillis - elapsedMillis;
+
+        if (remainingMillis > 0) {
+            if (overruns > 0) LoggerUtils.info("Live check cycles fit the {}s interval again after {} overruns, longest took {}ms", TimeUnit.MILLISECONDS.toSeconds(intervalMillis), overruns, longestCycle);
+
+            overruns = 0;
+            longestCycle = 0L;
+            long untilDueMillis = schedules.getNextDue(getPollablePlatforms()) - System.currentTimeMillis();
+            return Math.max(MIN_CYCLE_DELAY_TICKS, Math.min(remainingMillis, untilDueMillis) / 50L);
         }
 
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenRun(() -> {})
+        if (overruns++ == 0) LoggerUtils.warn("Live check cycle took {}ms, {}ms over the {}s interval; missed runs are coalesced into the next cycle", elapsedMillis, -remainingMillis, TimeUnit.MILLISECONDS.toSeconds(intervalMillis));
+        longestCycle = Math.max(longestCycle, elapsedMillis);
+
+        return MIN_CYCLE_DELAY_TICKS;
+    }
+
+    // a disabled platform or one behind an open breaker keeps its overdue entries, they must not pull the next cycle forward
+    @NotNull
+    private Set<PlatformType> getPollablePlatforms() {
+        Set<PlatformType> pollable = EnumSet.noneOf(PlatformType.class);
+
+        platforms.getAll().forEach(provider -> {
+            if (provider.isEnabled() && provider.isAvailable()) pollable.add(provider.getType());
+        });
+
+        return pollable;
+    }
+
+    @NotNull
+    private CompletableFuture<Void> checkAllPlayers() {
+        migrateChannelIds();
+
+        List<PlayerMediaData> tracked = dataManager.getTrackedMedia();
+        Set<String> trackedKeys = new HashSet<>();
+        tracked.forEach(data -> trackedKeys.add(announceKey(data.getPlayerUuid(), data.getPlatform())));
+        announced.retainAll(trackedKeys);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        Map<PlatformType, Map<UUID, PlayerMediaData>> channelsByPlatform = new EnumMap<>(PlatformType.class);
+        Set<UUID> onlinePlayers = new HashSet<>();
+
+        Bukkit.getOnlinePlayers().forEach(player -> onlinePlayers.add(player.getUniqueId()));
+
+        for (PlayerMediaData data : tracked) {
+            if (healthManager.shouldSkip(data.getPlatform(), data.getChannelUrl())) continue;
+            channelsByPlatform.computeIfAbsent(data.getPlatform(), k -> new HashMap<>()).put(data.getPlayerUuid(), data);
+        }
+
+        for (PlatformType platform : PlatformType.values()) {
+            StreamPlatform provider = platforms.get(platform);
+            Map<UUID, PlayerMediaData> channels = channelsByPlatform.get(platform);
+
+            if (provider != null && channels != null) futures.add(checkChannels(provider, channels, onlinePlayers));
+            else schedules.clear(platform);
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
                 .exceptionally(exception -> {
                     LoggerUtils.error("Check all players failed", exception);
                     return null;
@@ -88,79 +225,280 @@ public class LiveCheckService {
     }
 
     @NotNull
-    private CompletableFuture<Void> checkPlayerPlatform(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull PlayerMediaData data) {
-        CompletableFuture<Boolean> checkFuture = switch (platform) {
-            case YOUTUBE -> {
-                if (!ConfigKeys.API_YOUTUBE_ENABLED.getBoolean()) yield CompletableFuture.completedFuture(false);
-                yield youtubeClient.isChannelLive(data.getChannelUrl());
-            }
-            case TWITCH -> {
-                if (!ConfigKeys.API_TWITCH_ENABLED.getBoolean()) yield CompletableFuture.completedFuture(false);
-                yield twitchClient.isChannelLive(data.getChannelUrl());
-            }
-        };
+    private CompletableFuture<Void> checkChannels(@NotNull StreamPlatform provider, @NotNull Map<UUID, PlayerMediaData> channels, @NotNull Set<UUID> onlinePlayers) {
+        PlatformType platform = provider.getType();
+        if (!provider.isEnabled()) {
+            Map<String, StreamSnapshot> offline = new HashMap<>();
+            channels.values().forEach(data -> offline.put(data.getChannelId(), StreamSnapshot.offline()));
 
-        return checkFuture.thenCompose(isLive -> {
-            boolean wasLive = previousStates
-                    .computeIfAbsent(playerUuid, k -> new ConcurrentHashMap<>())
-                    .getOrDefault(platform, false);
+            schedules.clear(platform);
+            return applyResults(platform, channels, offline);
+        }
 
-            if (isLive != data.isLive()) dataManager.setLiveStatus(playerUuid, platform, isLive);
+        Map<String, ChannelRef> refs = new LinkedHashMap<>();
+        channels.forEach((playerUuid, data) -> refs.merge(data.getChannelId(), ChannelRef.of(data, onlinePlayers.contains(playerUuid)),
+                (existing, added) -> existing.isOnline() ? existing : added));
 
-            Player player = Bukkit.getPlayer(playerUuid);
+        provider.track(refs.values());
+        schedules.sync(platform, refs.values());
+        if (!provider.isAvailable()) return CompletableFuture.completedFuture(null);
 
-            if (player != null && player.isOnline()) {
-                if (isLive && !wasLive) notificationService.notifyLiveStart(player, platform);
-                else if (!isLive && wasLive) plugin.getMilestoneManager().resetPlayerMilestones(playerUuid, platform);
-            }
+        List<ChannelRef> due = schedules.takeDue(platform, provider.getBatchSize()).stream()
+                .map(refs::get)
+                .toList();
 
-            previousStates.get(playerUuid).put(platform, isLive);
+        List<ChannelRef> planned = planCycle(provider, due);
+        if (planned.isEmpty()) return CompletableFuture.completedFuture(null);
 
-            if (isLive) return checkMilestones(playerUuid, platform, data.getChannelUrl());
-            return CompletableFuture.completedFuture(null);
-        }).exceptionally(exception -> {
-            LoggerUtils.error(exception.getMessage());
-            return null;
+        Set<String> plannedIds = new HashSet<>();
+        planned.forEach(ref -> plannedIds.add(ref.getChannelId()));
+
+        Map<UUID, PlayerMediaData> polled = new HashMap<>();
+        channels.forEach((playerUuid, data) -> {
+            if (plannedIds.contains(data.getChannelId())) polled.put(playerUuid, data);
         });
+
+        List<ChannelRef> hot = planned.stream().filter(ChannelRef::isLive).toList();
+        List<ChannelRef> background = planned.stream().filter(ref -> !ref.isLive()).toList();
+
+        return fetchLane(provider, hot, RequestLane.HOT)
+                .thenCombine(fetchLane(provider, background, RequestLane.BACKGROUND), (hotResults, backgroundResults) -> {
+                    Map<String, StreamSnapshot> results = new HashMap<>(backgroundResults);
+                    results.putAll(hotResults);
+                    return results;
+                })
+                .thenCompose(results -> {
+                    planned.forEach(ref -> schedules.reschedule(platform, ref.getChannelId(), isLive(results.get(ref.getChannelId()), ref)));
+                    return applyResults(platform, polled, results);
+                })
+                .exceptionally(exception -> {
+                    LoggerUtils.error(exception.getMessage());
+                    return null;
+                });
+    }
+
+    @NotNull
+    private CompletableFuture<Map<String, StreamSnapshot>> fetchLane(@NotNull StreamPlatform provider, @NotNull List<ChannelRef> channels, @NotNull RequestLane lane) {
+        if (channels.isEmpty()) return CompletableFuture.completedFuture(Collections.emptyMap());
+        return provider.fetchSnapshots(channels, lane);
     }
 
-    private CompletableFuture<Void> checkMilestones(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull String channelUrl) {
-        CompletableFuture<Integer> viewerFuture;
-        CompletableFuture<Integer> followerFuture;
+    private static boolean isLive(@Nullable StreamSnapshot snapshot, @NotNull ChannelRef ref) {
+        if (snapshot == null || snapshot.getStatus() == ChannelStatus.UNKNOWN) return ref.isLive();
+        return snapshot.isLive();
+    }
 
-        switch (platform) {
-            case YOUTUBE -> {
-                viewerFuture = plugin.getYoutubeClient().getCurrentViewerCount(channelUrl);
-                followerFuture = plugin.getYoutubeClient().getSubscriberCount(channelUrl);
-            }
-            case TWITCH ->{
-                viewerFuture = plugin.getTwitchClient().getCurrentViewerCount(channelUrl);
-                followerFuture = plugin.getTwitchClient().getFollowerCount(channelUrl);
-            }
-            default -> {
-                return CompletableFuture.completedFuture(null);
+    @NotNull
+    private List<ChannelRef> planCycle(@NotNull StreamPlatform provider, @NotNull List<ChannelRef> channels) {
+        List<ChannelRef> polled = new ArrayList<>();
+
+        for (ChannelRef channel : channels) {
+            if (provider.needsPolling(channel)) polled.add(channel);
+            else schedules.reschedule(provider.getType(), channel.getChannelId(), channel.isLive());
+        }
+
+        if (polled.isEmpty()) return polled;
+
+        // offline tier permits are only drawn for channels that survived the budget trim, a trimmed channel must not burn a token
+        return limitOfflineTier(provider, trimToBudget(provider, polled));
+    }
+
+    @NotNull
+    private List<ChannelRef> trimToBudget(@NotNull StreamPlatform provider, @NotNull List<ChannelRef> polled) {
+        int batchSize = Math.max(1, provider.getBatchSize());
+        long batches = (polled.size() + batchSize - 1) / batchSize;
+        long affordableBatches = provider.getRemainingBudget() / Math.max(1, provider.getBatchCost());
+        long rateBatches = Math.max(1L, (long) provider.getRequestsPerMinute() * Math.max(1, ConfigKeys.CHECK_INTERVAL.getInt()) / 60);
+        long maxBatches = Math.min(affordableBatches, rateBatches);
+
+        if (batches <= maxBatches) {
+            if (trimmed.remove(provider.getType())) LoggerUtils.info("{} checks cover every channel again", provider.getType().name());
+            return polled;
+        }
+
+        if (trimmed.add(provider.getType())) LoggerUtils.warn("{} checks trimmed to {} of {} batches per cycle to stay within its budget", provider.getType().name(), maxBatches, batches);
+
+        // channels come out most overdue first, the trimmed tail is spread over the cycles whose budget can carry it instead of waking the next one at once
+        int limit = (int) Math.min(polled.size(), maxBatches * batchSize);
+        List<ChannelRef> tail = polled.subList(limit, polled.size());
+        long perCycle = Math.max(1L, maxBatches) * batchSize;
+        long intervalMillis = TimeUnit.SECONDS.toMillis(Math.max(1, ConfigKeys.CHECK_INTERVAL.getInt()));
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < tail.size(); i++) {
+            schedules.release(provider.getType(), tail.get(i).getChannelId(), now + (i / perCycle + 1) * intervalMillis);
+        }
+
+        return polled.subList(0, limit);
+    }
+
+    @NotNull
+    private List<ChannelRef> limitOfflineTier(@NotNull StreamPlatform provider, @NotNull List<ChannelRef> channels) {
+        List<ChannelRef> online = new ArrayList<>();
+        List<ChannelRef> offline = new ArrayList<>();
+        channels.forEach(channel -> (channel.isOnline() ? online : offline).add(channel));
+
+        if (offline.isEmpty()) return channels;
+
+        // offline streamers ride free in the online tier's last batch, anything beyond draws on their own budget
+        int batchSize = Math.max(1, provider.getBatchSize());
+        int freeSlots = (batchSize - online.size() % batchSize) % batchSize;
+        int extraBatches = Math.max(0, (offline.size() - freeSlots + batchSize - 1) / batchSize);
+        RateLimiter limiter = getOfflineTierLimiter(provider.getType());
+        int granted = limiter.acquireAvailable(extraBatches);
+        int allowed = Math.min(offline.size(), freeSlots + granted * batchSize);
+
+        // the overflow is spread over the moments its batches can afford a token, requeueing it as due now would spin cycles on an empty bucket
+        List<ChannelRef> overflow = offline.subList(allowed, offline.size());
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < overflow.size(); i++) {
+            long waitMillis = TimeUnit.NANOSECONDS.toMillis(limiter.getWaitNanos(i / batchSize + 1));
+            schedules.release(provider.getType(), overflow.get(i).getChannelId(), now + waitMillis);
+        }
+
+        List<ChannelRef> planned = new ArrayList<>(online);
+        planned.addAll(offline.subList(0, allowed));
+        return planned;
+    }
+
+    @NotNull
+    private RateLimiter getOfflineTierLimiter(@NotNull PlatformType platform) {
+        return offlineTierLimiters.computeIfAbsent(platform, k -> new RateLimiter(platform.name() + " offline tier", ConfigKeys.CHECK_OFFLINE_TIER_REQUESTS_PER_MINUTE.getInt()));
+    }
+
+    private void applyPushed(@NotNull PlatformType platform, @NotNull String channelId, @NotNull StreamSnapshot snapshot) {
+        Map<UUID, PlayerMediaData> channels = new HashMap<>();
+
+        for (PlayerMediaData data : dataManager.getTrackedMedia()) {
+            if (data.getPlatform() == platform && channelId.equals(data.getChannelId())) channels.put(data.getPlayerUuid(), data);
+        }
+
+        if (channels.isEmpty()) return;
+
+        // a push that could not be confirmed yet makes the channel due, the next cycle reads it
+        if (snapshot.getStatus() == ChannelStatus.UNKNOWN) {
+            schedules.release(platform, channelId);
+            return;
+        }
+
+        schedules.reschedule(platform, channelId, snapshot.isLive());
+        applyResults(platform, channels, Map.of(channelId, snapshot));
+    }
+
+    @NotNull
+    private CompletableFuture<Void> applyResults(@NotNull PlatformType platform, @NotNull Map<UUID, PlayerMediaData> channels, @NotNull Map<String, StreamSnapshot> results) {
+        channels.forEach((playerUuid, data) -> {
+            // a channel missing from the results was not answered, like UNKNOWN it keeps its previous state
+            StreamSnapshot snapshot = results.get(data.getChannelId());
+            if (snapshot == null || snapshot.getStatus() == ChannelStatus.UNKNOWN) return;
+
+            if (snapshot.getStatus() == ChannelStatus.INVALID) {
+                healthManager.recordFailure(platform, data.getChannelUrl(), "rejected by the API");
+                return;
             }
+
+            healthManager.recordSuccess(platform, data.getChannelUrl());
+
+            Player player = Bukkit.getPlayer(playerUuid);
+            boolean online = player != null && player.isOnline();
+
+            if (snapshot.isLive() && online) handleSnapshot(playerUuid, player, platform, data, snapshot.withFollowers(getFollowers(playerUuid, platform, data)));
+            else handleSnapshot(playerUuid, online ? player : null, platform, data, snapshot);
+        });
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // until the first refresh lands the last known count stands, a cache miss is not a drop to zero
+    @Nullable
+    private Integer getFollowers(@NotNull UUID playerUuid, @NotNull PlatformType platform, @NotNull PlayerMediaData data) {
+        Integer followers = followerCountService.get(platform, data.getChannelId());
+        if (followers != null) return followers;
+
+        StreamSnapshot previous = getSnapshot(playerUuid, platform);
+        return previous != null ? previous.getFollowers() : null;
+    }
+
+    private void handleSnapshot(@NotNull UUID playerUuid, @Nullable Player player, @NotNull PlatformType platform, @NotNull PlayerMediaData data, @NotNull StreamSnapshot snapshot) {
+        StreamSnapshot previous = snapshots
+                .computeIfAbsent(playerUuid, k -> new ConcurrentHashMap<>())
+                .put(platform, snapshot);
+
+        boolean isLive = snapshot.isLive();
+        boolean wasLive = previous != null ? previous.isLive() : data.isLive();
+
+        if (isLive && !data.isLive()) historyManager.record(platform, data.getChannelId(), snapshot.getStartedAt() != null ? snapshot.getStartedAt() : Instant.now());
+        if (isLive != data.isLive()) dataManager.setLiveStatus(playerUuid, platform, isLive);
+
+        String announceKey = announceKey(playerUuid, platform);
+
+        if (!isLive) {
+            announced.remove(announceKey);
+            if (wasLive) plugin.getMilestoneManager().resetPlayerMilestones(playerUuid, platform);
+            return;
         }
 
-        return CompletableFuture.allOf(viewerFuture, followerFuture)
-                .thenAccept(v -> {
-                    int viewerCount = viewerFuture.join();
-                    int followerCount = followerFuture.join();
+        // state is tracked for everyone, but announcements and in-game effects wait until the streamer is on the server
+        if (player == null) return;
+        if (announced.add(announceKey)) notificationService.notifyLiveStart(player, platform);
 
-                    plugin.getMilestoneManager().checkMilestones(playerUuid, platform, viewerCount, followerCount);
-                    plugin.getBossBarManager().updateBossBars(playerUuid, platform, viewerCount, false);
-                    plugin.getBossBarManager().updateBossBars(playerUuid, platform, followerCount, true);
-                });
+        plugin.getMilestoneManager().checkMilestones(playerUuid, platform, snapshot);
+        plugin.getBossBarManager().updateBossBars(playerUuid, platform, snapshot);
     }
 
     @NotNull
-    private Set<UUID> getAllPlayersWithMedia() {
-        Set<UUID> players = new HashSet<>();
+    private static String announceKey(@NotNull UUID playerUuid, @NotNull PlatformType platform) {
+        return playerUuid + ":" + platform.name();
+    }
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!dataManager.getAllPlayerData(player.getUniqueId()).isEmpty()) players.add(player.getUniqueId());
+    @Nullable
+    public StreamSnapshot getSnapshot(@NotNull UUID playerUuid, @NotNull PlatformType platform) {
+        Map<PlatformType, StreamSnapshot> playerSnapshots = snapshots.get(playerUuid);
+        return playerSnapshots != null ? playerSnapshots.get(platform) : null;
+    }
+
+    private void migrateChannelIds() {
+        List<PlayerMediaData> unresolved = dataManager.getUnresolvedMedia();
+        if (unresolved.isEmpty() || !migrating.compareAndSet(false, true)) return;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        Map<PlatformType, List<PlayerMediaData>> entriesByPlatform = new EnumMap<>(PlatformType.class);
+
+        for (PlayerMediaData data : unresolved) {
+            if (healthManager.shouldSkip(data.getPlatform(), data.getChannelUrl())) continue;
+
+            StreamPlatform provider = platforms.get(data.getPlatform());
+            if (provider == null || !provider.isEnabled() || !provider.isAvailable()) continue;
+
+            entriesByPlatform.computeIfAbsent(data.getPlatform(), k -> new ArrayList<>()).add(data);
         }
 
-        return players;
+        entriesByPlatform.forEach((platform, entries) -> {
+            List<String> channelUrls = entries.stream()
+                    .map(PlayerMediaData::getChannelUrl)
+                    .toList();
+
+            futures.add(platforms.get(platform).resolveChannelIds(channelUrls, RequestLane.BACKGROUND)
+                    .thenAccept(resolved -> entries.forEach(data -> storeChannelId(data, resolved.getOrDefault(data.getChannelUrl(), ChannelResolution.unknown())))));
+        });
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .whenComplete((v, exception) -> {
+                    migrating.set(false);
+                    if (exception != null) LoggerUtils.error("Channel id migration failed", exception);
+                });
+    }
+
+    // only a definitive not-found counts against the channel, an unanswered lookup is simply retried next cycle
+    private void storeChannelId(@NotNull PlayerMediaData data, @NotNull ChannelResolution resolution) {
+        switch (resolution.getStatus()) {
+            case RESOLVED -> {
+                healthManager.recordSuccess(data.getPlatform(), data.getChannelUrl());
+                dataManager.setChannelId(data.getPlayerUuid(), data.getPlatform(), resolution.getChannelId());
+            }
+            case NOT_FOUND -> healthManager.recordFailure(data.getPlatform(), data.getChannelUrl(), "channel does not exist");
+            case UNKNOWN -> {}
+        }
     }
 }